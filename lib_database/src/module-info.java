@@ -7,6 +7,9 @@ module lib_database
 	exports py.com.semp.lib.database.connection;
 	exports py.com.semp.lib.database.utilities;
 	exports py.com.semp.lib.database.data;
+	exports py.com.semp.lib.database.mapping;
+	
+	uses py.com.semp.lib.database.mapping.ValueBinderProvider;
 	
 	requires transitive java.sql;
 	requires transitive lib_utilidades;
@@ -1,11 +1,28 @@
 package py.com.semp.lib.database.configuration;
 
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_IDLE_TIMEOUT_SECONDS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_MAX_LIFETIME_JITTER_PERCENT;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_MAX_LIFETIME_SECONDS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_TEST_QUERY;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_TIMEOUT_SECONDS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_VALIDATION_INTERVAL_MILLIS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.CONNECTION_VALIDATION_TIMEOUT_SECONDS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_BATCH_SIZE;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_DRIVER_PROPERTIES;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_ENGINE;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_FETCH_SIZE;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_PASSWORD;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_PERFORMANCE_PROFILE_ENABLED;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_ENABLED;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_MAX_SIZE;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_MAX_WAITERS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_MIN_IDLE;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_POOL_REPLACE_EXPIRED;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_URL;
 import static py.com.semp.lib.database.configuration.Values.VariableNames.DATABASE_USER_NAME;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.HOUSEKEEPING_INTERVAL_SECONDS;
+import static py.com.semp.lib.database.configuration.Values.VariableNames.STATEMENT_CACHE_SIZE;
 
 import py.com.semp.lib.database.connection.DatabaseEngine;
 import py.com.semp.lib.utilidades.configuration.ConfigurationValues;
@@ -31,6 +48,23 @@ public class DatabaseConfiguration extends ConfigurationValues
 	protected void setOptionalParameters()
 	{
 		this.addOptionalParameter(Integer.class, DATABASE_FETCH_SIZE);
+		this.addOptionalParameter(Boolean.class, DATABASE_POOL_ENABLED);
+		this.addOptionalParameter(Integer.class, DATABASE_POOL_MIN_IDLE);
+		this.addOptionalParameter(Integer.class, DATABASE_POOL_MAX_SIZE);
+		this.addOptionalParameter(Integer.class, DATABASE_POOL_MAX_WAITERS);
+		this.addOptionalParameter(Integer.class, DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS);
+		this.addOptionalParameter(Boolean.class, DATABASE_POOL_REPLACE_EXPIRED);
+		this.addOptionalParameter(Integer.class, CONNECTION_IDLE_TIMEOUT_SECONDS);
+		this.addOptionalParameter(Integer.class, CONNECTION_MAX_LIFETIME_SECONDS);
+		this.addOptionalParameter(Integer.class, CONNECTION_MAX_LIFETIME_JITTER_PERCENT);
+		this.addOptionalParameter(Integer.class, HOUSEKEEPING_INTERVAL_SECONDS);
+		this.addOptionalParameter(Integer.class, CONNECTION_VALIDATION_INTERVAL_MILLIS);
+		this.addOptionalParameter(Integer.class, CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+		this.addOptionalParameter(String.class, CONNECTION_TEST_QUERY);
+		this.addOptionalParameter(Integer.class, STATEMENT_CACHE_SIZE);
+		this.addOptionalParameter(Integer.class, DATABASE_BATCH_SIZE);
+		this.addOptionalParameter(Boolean.class, DATABASE_PERFORMANCE_PROFILE_ENABLED);
+		this.addOptionalParameter(String.class, DATABASE_DRIVER_PROPERTIES);
 	}
 	
 	@Override
@@ -38,5 +72,20 @@ public class DatabaseConfiguration extends ConfigurationValues
 	{
 		this.setParameter(DatabaseEngine.class, DATABASE_ENGINE, Values.Defaults.DATABASE_ENGINE);
 		this.setParameter(Integer.class, CONNECTION_TIMEOUT_SECONDS, Values.Defaults.CONNECTION_TIMEOUT_SECONDS);
+		this.setParameter(Boolean.class, DATABASE_POOL_ENABLED, Values.Defaults.DATABASE_POOL_ENABLED);
+		this.setParameter(Integer.class, DATABASE_POOL_MIN_IDLE, Values.Defaults.DATABASE_POOL_MIN_IDLE);
+		this.setParameter(Integer.class, DATABASE_POOL_MAX_SIZE, Values.Defaults.DATABASE_POOL_MAX_SIZE);
+		this.setParameter(Integer.class, DATABASE_POOL_MAX_WAITERS, Values.Defaults.DATABASE_POOL_MAX_WAITERS);
+		this.setParameter(Integer.class, DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS, Values.Defaults.DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS);
+		this.setParameter(Boolean.class, DATABASE_POOL_REPLACE_EXPIRED, Values.Defaults.DATABASE_POOL_REPLACE_EXPIRED);
+		this.setParameter(Integer.class, CONNECTION_IDLE_TIMEOUT_SECONDS, Values.Defaults.CONNECTION_IDLE_TIMEOUT_SECONDS);
+		this.setParameter(Integer.class, CONNECTION_MAX_LIFETIME_SECONDS, Values.Defaults.CONNECTION_MAX_LIFETIME_SECONDS);
+		this.setParameter(Integer.class, CONNECTION_MAX_LIFETIME_JITTER_PERCENT, Values.Defaults.CONNECTION_MAX_LIFETIME_JITTER_PERCENT);
+		this.setParameter(Integer.class, HOUSEKEEPING_INTERVAL_SECONDS, Values.Defaults.HOUSEKEEPING_INTERVAL_SECONDS);
+		this.setParameter(Integer.class, CONNECTION_VALIDATION_INTERVAL_MILLIS, Values.Defaults.CONNECTION_VALIDATION_INTERVAL_MILLIS);
+		this.setParameter(Integer.class, CONNECTION_VALIDATION_TIMEOUT_SECONDS, Values.Defaults.CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+		this.setParameter(Boolean.class, DATABASE_PERFORMANCE_PROFILE_ENABLED, Values.Defaults.DATABASE_PERFORMANCE_PROFILE_ENABLED);
+		this.setParameter(Integer.class, STATEMENT_CACHE_SIZE, Values.Defaults.STATEMENT_CACHE_SIZE);
+		this.setParameter(Integer.class, DATABASE_BATCH_SIZE, Values.Defaults.DATABASE_BATCH_SIZE);
 	}
 }
\ No newline at end of file
@@ -27,6 +27,43 @@ public interface Values
 		 * Path where the messages for localization are found.
 		 */
 		public static final String MESSAGES_PATH = "/py/com/semp/lib/database/";
+		
+		/**
+		 * Name of the background thread running the connection housekeeping tasks.
+		 */
+		public static final String HOUSEKEEPING_THREAD_NAME = "lib_database-housekeeping";
+		
+		/**
+		 * Name of the temporary threads opening connections while warming up a pool or replenishing it in the background.
+		 */
+		public static final String WARM_UP_THREAD_NAME = "lib_database-warm-up";
+		
+		//Integer values
+		
+		/**
+		 * Interval in milliseconds between sweeps of the connection registry looking for keys whose owner is gone.
+		 */
+		public static final int REGISTRY_SWEEP_INTERVAL_MILLIS = 1000;
+		
+		/**
+		 * Maximum number of compiled named queries kept in the parse cache.
+		 */
+		public static final int NAMED_QUERY_CACHE_SIZE = 1024;
+		
+		/**
+		 * Maximum number of rewritten multi-row inserts kept per database engine, the least recently used being evicted.
+		 */
+		public static final int MULTI_ROW_INSERT_CACHE_SIZE = 256;
+		
+		/**
+		 * Maximum number of row mappers kept per target class, one per distinct result schema.
+		 */
+		public static final int ROW_MAPPER_CACHE_SIZE = 64;
+		
+		/**
+		 * Rows fetched per round trip by streaming queries when {@code DATABASE_FETCH_SIZE} is not configured.
+		 */
+		public static final int STREAMING_FETCH_SIZE = 1000;
 	}
 	
 	/**
@@ -44,6 +81,90 @@ public interface Values
 		 */
 		public static final String CONNECTION_TIMEOUT_SECONDS = "connectionTimeoutSeconds";
 		
+		/**
+		 * Minimum number of idle connections kept open by the connection pool.
+		 */
+		public static final String DATABASE_POOL_MIN_IDLE = "databasePoolMinIdle";
+		
+		/**
+		 * Maximum number of physical connections opened by the connection pool.
+		 */
+		public static final String DATABASE_POOL_MAX_SIZE = "databasePoolMaxSize";
+		
+		/**
+		 * Maximum number of threads allowed to wait for a pooled connection at the same time.
+		 */
+		public static final String DATABASE_POOL_MAX_WAITERS = "databasePoolMaxWaiters";
+		
+		/**
+		 * Time out time in milliseconds for acquiring a connection from the pool.
+		 */
+		public static final String DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS = "databasePoolAcquireTimeoutMillis";
+		
+		/**
+		 * Time in seconds a connection may stay unused before being closed, by the pool housekeeping for idle pooled connections
+		 * or on the next use for connections that are not pooled. Zero disables it.
+		 */
+		public static final String CONNECTION_IDLE_TIMEOUT_SECONDS = "connectionIdleTimeoutSeconds";
+		
+		/**
+		 * Maximum time in seconds a physical connection is kept open before being retired, while idle in its pool
+		 * or on the next use for connections that are not pooled. Zero disables it.
+		 */
+		public static final String CONNECTION_MAX_LIFETIME_SECONDS = "connectionMaxLifetimeSeconds";
+		
+		/**
+		 * Percentage of the maximum lifetime randomly subtracted from each connection, so connections opened
+		 * together are not retired together.
+		 */
+		public static final String CONNECTION_MAX_LIFETIME_JITTER_PERCENT = "connectionMaxLifetimeJitterPercent";
+		
+		/**
+		 * Interval in seconds between background housekeeping runs of a connection pool.
+		 */
+		public static final String HOUSEKEEPING_INTERVAL_SECONDS = "housekeepingIntervalSeconds";
+		
+		/**
+		 * Time in milliseconds a connection may stay unused and still be trusted without running a validation round trip.
+		 * Zero validates the connection on every check.
+		 */
+		public static final String CONNECTION_VALIDATION_INTERVAL_MILLIS = "connectionValidationIntervalMillis";
+		
+		/**
+		 * Time out time in seconds for validating a connection.
+		 */
+		public static final String CONNECTION_VALIDATION_TIMEOUT_SECONDS = "connectionValidationTimeoutSeconds";
+		
+		/**
+		 * Maximum number of prepared statements cached by each connection. Zero disables the cache.
+		 */
+		public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+		
+		/**
+		 * Default number of rows sent to the database in each round trip of a batch execution.
+		 */
+		public static final String DATABASE_BATCH_SIZE = "databaseBatchSize";
+		
+		// Boolean values
+		
+		/**
+		 * Enables the connection pool. When enabled, connections are leased from a pool
+		 * and returned to it when closed instead of closing the physical connection.
+		 */
+		public static final String DATABASE_POOL_ENABLED = "databasePoolEnabled";
+		
+		/**
+		 * When enabled, pooled connections retired for exceeding their maximum lifetime are replaced
+		 * by new idle connections ahead of time.
+		 */
+		public static final String DATABASE_POOL_REPLACE_EXPIRED = "databasePoolReplaceExpired";
+		
+		/**
+		 * Enables the recommended driver properties of the {@link DatabaseEngine} performance profile. Disabled by default:
+		 * with batch rewriting, drivers may report {@code Statement.SUCCESS_NO_INFO} instead of the update count of each row.
+		 */
+		public static final String DATABASE_PERFORMANCE_PROFILE_ENABLED = "databasePerformanceProfileEnabled";
+		
 		// String Variables Names
 		
 		/**
@@ -61,6 +182,18 @@ public interface Values
 		 */
 		public static final String DATABASE_PASSWORD = "databasePassword";
 		
+		/**
+		 * Query used to validate connections instead of {@code Connection.isValid}, for drivers that do not implement it.
+		 */
+		public static final String CONNECTION_TEST_QUERY = "connectionTestQuery";
+		
+		/**
+		 * Driver properties passed at connect time, as {@code key=value} pairs separated by {@code ;}.
+		 * They override the engine performance profile, and an empty value removes a profile property.
+		 * (Example: {@code prepareThreshold=3;defaultRowFetchSize=500})
+		 */
+		public static final String DATABASE_DRIVER_PROPERTIES = "databaseDriverProperties";
+		
 		// Various Classes Variables Names
 		
 		/**
@@ -78,6 +211,23 @@ public interface Values
 	{
 		//Integer values
 		public static final Integer CONNECTION_TIMEOUT_SECONDS = 0;
+		public static final Integer DATABASE_POOL_MIN_IDLE = 0;
+		public static final Integer DATABASE_POOL_MAX_SIZE = 10;
+		public static final Integer DATABASE_POOL_MAX_WAITERS = 1000;
+		public static final Integer DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS = 30000;
+		public static final Integer CONNECTION_IDLE_TIMEOUT_SECONDS = 600;
+		public static final Integer CONNECTION_MAX_LIFETIME_SECONDS = 1800;
+		public static final Integer CONNECTION_MAX_LIFETIME_JITTER_PERCENT = 5;
+		public static final Integer HOUSEKEEPING_INTERVAL_SECONDS = 30;
+		public static final Integer CONNECTION_VALIDATION_INTERVAL_MILLIS = 5000;
+		public static final Integer CONNECTION_VALIDATION_TIMEOUT_SECONDS = 5;
+		public static final Integer STATEMENT_CACHE_SIZE = 100;
+		public static final Integer DATABASE_BATCH_SIZE = 1000;
+		
+		//Boolean values
+		public static final Boolean DATABASE_POOL_ENABLED = false;
+		public static final Boolean DATABASE_POOL_REPLACE_EXPIRED = true;
+		public static final Boolean DATABASE_PERFORMANCE_PROFILE_ENABLED = false;
 		
 		// Various Classes Instances
 		public static final DatabaseEngine DATABASE_ENGINE = DatabaseEngine.POSTGRES;
@@ -0,0 +1,155 @@
+package py.com.semp.lib.database.connection;
+
+/**
+ * Chooses the chunk size of a batch execution from the throughput measured on each chunk,
+ * following an additive-increase / multiplicative-decrease policy.
+ *
+ * <p>
+ * The size grows by a fixed step while the rows per second stay close to the best throughput seen so far, and
+ * the size that reached it is remembered. Consecutive chunks of the same size are smoothed together, and only a
+ * drop confirmed on {@value #CONFIRMATIONS} chunks in a row shrinks the size: back to the best size when growing
+ * past it was the cause, or by half when the best size itself got slower, in which case the best throughput is
+ * measured again. After shrinking, the size is held for {@value #HOLD_CHUNKS} chunks before growing again, so it
+ * settles around the largest size the database, the row width and the network latency can absorb instead of
+ * oscillating, always within the configured bounds.
+ * </p>
+ *
+ * @author Sergio Morel
+ * @see BatchOptions#setAdaptiveChunkSize(int, int)
+ */
+final class AdaptiveBatchSizer
+{
+	/**
+	 * Number of additive steps between the minimum and the maximum size.
+	 */
+	private static final int STEPS = 16;
+	
+	/**
+	 * Relative throughput loss considered a real drop rather than noise.
+	 */
+	private static final double DECREASE_THRESHOLD = 0.10;
+	
+	/**
+	 * Weight of the newest chunk in the smoothed throughput of chunks of the same size.
+	 */
+	private static final double SMOOTHING = 0.5;
+	
+	/**
+	 * Consecutive chunks below the threshold needed to shrink the size.
+	 */
+	private static final int CONFIRMATIONS = 2;
+	
+	/**
+	 * Chunks executed at the new size after shrinking before growing again.
+	 */
+	private static final int HOLD_CHUNKS = 4;
+	
+	private final int minSize;
+	private final int maxSize;
+	private final int step;
+	
+	private int size;
+	private int measuredSize;
+	private double rowsPerNano;
+	private double bestRowsPerNano;
+	private int bestSize;
+	private int drops;
+	private int hold;
+	private int adjustments;
+	
+	AdaptiveBatchSizer(int initialSize, int minSize, int maxSize)
+	{
+		super();
+		
+		this.minSize = Math.max(1, minSize);
+		this.maxSize = Math.max(this.minSize, maxSize);
+		this.step = Math.max(1, (this.maxSize - this.minSize) / STEPS);
+		this.size = Math.min(Math.max(initialSize, this.minSize), this.maxSize);
+	}
+	
+	/**
+	 * Gets the chunk size to use for the next chunk.
+	 */
+	int getSize()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Gets how many times the size was changed.
+	 */
+	int getAdjustments()
+	{
+		return this.adjustments;
+	}
+	
+	/**
+	 * Records the execution of a full chunk and returns the size of the next one.
+	 *
+	 * @param rows The number of rows of the chunk.
+	 * @param elapsedNanos The time spent executing the chunk.
+	 * @return the chunk size to use next.
+	 */
+	int record(int rows, long elapsedNanos)
+	{
+		double sample = rows / (double) Math.max(1L, elapsedNanos);
+		
+		if(this.measuredSize == this.size)
+		{
+			this.rowsPerNano += SMOOTHING * (sample - this.rowsPerNano);
+		}
+		else
+		{
+			this.measuredSize = this.size;
+			this.rowsPerNano = sample;
+		}
+		
+		int next = this.size;
+		
+		if(this.rowsPerNano >= this.bestRowsPerNano * (1.0 - DECREASE_THRESHOLD))
+		{
+			if(this.rowsPerNano >= this.bestRowsPerNano)
+			{
+				this.bestRowsPerNano = this.rowsPerNano;
+				this.bestSize = this.size;
+			}
+			
+			this.drops = 0;
+			
+			if(this.hold > 0)
+			{
+				this.hold--;
+			}
+			else
+			{
+				next = Math.min(this.maxSize, this.size + this.step);
+			}
+		}
+		else if(++this.drops >= CONFIRMATIONS)
+		{
+			if(this.size > this.bestSize)
+			{
+				next = this.bestSize;
+			}
+			else
+			{
+				next = Math.max(this.minSize, this.size / 2);
+				
+				// The best size got slower: measure the best throughput again from here
+				this.bestRowsPerNano = 0.0;
+			}
+			
+			this.drops = 0;
+			this.hold = HOLD_CHUNKS;
+		}
+		
+		if(next != this.size)
+		{
+			this.adjustments++;
+		}
+		
+		this.size = next;
+		
+		return next;
+	}
+}
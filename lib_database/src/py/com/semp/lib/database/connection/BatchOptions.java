@@ -0,0 +1,208 @@
+package py.com.semp.lib.database.connection;
+
+/**
+ * Options controlling how {@link DatabaseConnection#executeBatch(String, Iterable, BatchOptions)} and
+ * {@link DatabaseConnection#executeNamedBatch(String, Iterable, BatchOptions)} send rows to the database.
+ *
+ * <pre>{@code
+ * BatchOptions options = new BatchOptions()
+ *     .setChunkSize(500)
+ *     .setCommitEvery(10000)
+ *     .setCollectUpdateCounts(true);
+ * }</pre>
+ *
+ * @author Sergio Morel
+ * @see BatchResult
+ */
+public final class BatchOptions
+{
+	private int chunkSize;
+	private boolean adaptive;
+	private int minChunkSize;
+	private int maxChunkSize;
+	private int commitEvery;
+	private boolean collectUpdateCounts;
+	private boolean multiRowInsert;
+	private GeneratedKeysConsumer generatedKeysConsumer;
+	private String[] generatedKeyColumns;
+	
+	/**
+	 * Creates options with the chunk size taken from {@code DATABASE_BATCH_SIZE}, no intermediate commits,
+	 * no per-row update counts and no generated keys retrieval.
+	 */
+	public BatchOptions()
+	{
+		super();
+	}
+	
+	/**
+	 * Sets the number of rows sent to the database in each {@code executeBatch} round trip.
+	 *
+	 * @param chunkSize The number of rows per chunk, or zero to use {@code DATABASE_BATCH_SIZE}.
+	 * @return this options instance.
+	 */
+	public BatchOptions setChunkSize(int chunkSize)
+	{
+		this.chunkSize = Math.max(0, chunkSize);
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the number of rows per chunk, or zero if the configured {@code DATABASE_BATCH_SIZE} is used.
+	 * In adaptive mode, it is the size of the first chunk.
+	 */
+	public int getChunkSize()
+	{
+		return this.chunkSize;
+	}
+	
+	/**
+	 * Lets the chunk size adapt to the measured throughput within the given bounds.
+	 * <p>
+	 * The rows per second of every chunk are measured; the size grows additively while the throughput holds
+	 * and is halved when it drops, so bulk jobs settle on a good size for each engine and network without tuning.
+	 * The chunk size in use at the end is reported by {@link BatchResult#getChunkSize()}.
+	 * </p>
+	 *
+	 * @param minChunkSize The smallest number of rows per chunk.
+	 * @param maxChunkSize The largest number of rows per chunk.
+	 * @return this options instance.
+	 */
+	public BatchOptions setAdaptiveChunkSize(int minChunkSize, int maxChunkSize)
+	{
+		this.adaptive = true;
+		this.minChunkSize = Math.max(1, minChunkSize);
+		this.maxChunkSize = Math.max(this.minChunkSize, maxChunkSize);
+		
+		return this;
+	}
+	
+	/**
+	 * Returns whether the chunk size adapts to the measured throughput.
+	 */
+	public boolean isAdaptive()
+	{
+		return this.adaptive;
+	}
+	
+	/**
+	 * Gets the smallest chunk size in adaptive mode.
+	 */
+	public int getMinChunkSize()
+	{
+		return this.minChunkSize;
+	}
+	
+	/**
+	 * Gets the largest chunk size in adaptive mode.
+	 */
+	public int getMaxChunkSize()
+	{
+		return this.maxChunkSize;
+	}
+	
+	/**
+	 * Commits the transaction at the end of the first chunk after every given number of rows, and after the last chunk.
+	 * Ignored when the connection is in auto-commit mode.
+	 *
+	 * @param commitEvery The number of rows between commits, or zero to leave committing to the caller.
+	 * @return this options instance.
+	 */
+	public BatchOptions setCommitEvery(int commitEvery)
+	{
+		this.commitEvery = Math.max(0, commitEvery);
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the number of rows between commits, zero if the batch never commits.
+	 */
+	public int getCommitEvery()
+	{
+		return this.commitEvery;
+	}
+	
+	/**
+	 * Keeps the update count of every row in the {@link BatchResult}.
+	 * Only the counts are kept, never the rows.
+	 *
+	 * @param collectUpdateCounts {@code true} to collect the per-row update counts.
+	 * @return this options instance.
+	 */
+	public BatchOptions setCollectUpdateCounts(boolean collectUpdateCounts)
+	{
+		this.collectUpdateCounts = collectUpdateCounts;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns whether the per-row update counts are collected.
+	 */
+	public boolean isCollectUpdateCounts()
+	{
+		return this.collectUpdateCounts;
+	}
+	
+	/**
+	 * Rewrites a single-row {@code INSERT ... VALUES (...)} into statements inserting several rows each,
+	 * {@code VALUES (...), (...), ...}, or {@code INSERT ALL} on Oracle.
+	 * <p>
+	 * Useful with drivers that do not rewrite batches themselves, where every row is otherwise a statement
+	 * executed by the server. The rows per statement are bounded by the chunk size and by the bind parameter
+	 * and row limits of the {@link DatabaseEngine}; the rows left over at the end are inserted by a smaller statement.
+	 * Engines without multi-row inserts, and statements with placeholders outside of the {@code VALUES} row,
+	 * execute the statement once per row as usual.
+	 * </p>
+	 *
+	 * @param multiRowInsert {@code true} to insert several rows per statement.
+	 * @return this options instance.
+	 */
+	public BatchOptions setMultiRowInsert(boolean multiRowInsert)
+	{
+		this.multiRowInsert = multiRowInsert;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns whether several rows are inserted per statement.
+	 */
+	public boolean isMultiRowInsert()
+	{
+		return this.multiRowInsert;
+	}
+	
+	/**
+	 * Retrieves the keys generated for the inserted rows, passing them to the consumer after each chunk.
+	 *
+	 * @param generatedKeysConsumer The consumer of the generated keys, or {@code null} to not retrieve them.
+	 * @param columnNames The generated columns to return, or none to let the driver choose.
+	 * @return this options instance.
+	 */
+	public BatchOptions setGeneratedKeysConsumer(GeneratedKeysConsumer generatedKeysConsumer, String... columnNames)
+	{
+		this.generatedKeysConsumer = generatedKeysConsumer;
+		this.generatedKeyColumns = columnNames != null && columnNames.length > 0 ? columnNames.clone() : null;
+		
+		return this;
+	}
+	
+	/**
+	 * Gets the consumer of the generated keys, {@code null} if they are not retrieved.
+	 */
+	public GeneratedKeysConsumer getGeneratedKeysConsumer()
+	{
+		return this.generatedKeysConsumer;
+	}
+	
+	/**
+	 * Gets the generated columns to return, {@code null} to let the driver choose.
+	 */
+	public String[] getGeneratedKeyColumns()
+	{
+		return this.generatedKeyColumns != null ? this.generatedKeyColumns.clone() : null;
+	}
+}
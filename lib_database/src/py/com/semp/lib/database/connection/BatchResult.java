@@ -0,0 +1,195 @@
+package py.com.semp.lib.database.connection;
+
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * Totals of a batch execution.
+ *
+ * @author Sergio Morel
+ * @see DatabaseConnection#executeBatch(String, Iterable, BatchOptions)
+ */
+public final class BatchResult
+{
+	private final boolean collectUpdateCounts;
+	
+	private long rowCount;
+	private long updatedRowCount;
+	private long unknownRowCount;
+	private int chunkCount;
+	private int commitCount;
+	private int[] updateCounts;
+	private int updateCountsSize;
+	private int chunkSize;
+	private int chunkSizeAdjustments;
+	private long executionNanos;
+	
+	BatchResult(boolean collectUpdateCounts)
+	{
+		super();
+		
+		this.collectUpdateCounts = collectUpdateCounts;
+		this.updateCounts = collectUpdateCounts ? new int[64] : null;
+	}
+	
+	/**
+	 * Adds the update counts returned by one executed chunk of the given number of rows.
+	 * With multi-row inserts there is one count per statement, every statement of the chunk holding the same number of rows.
+	 */
+	void addChunk(int[] counts, int rows, long elapsedNanos)
+	{
+		this.chunkCount++;
+		this.rowCount += rows;
+		this.executionNanos += elapsedNanos;
+		
+		int rowsPerCount = counts.length > 0 ? rows / counts.length : 0;
+		
+		for(int count : counts)
+		{
+			if(count >= 0)
+			{
+				this.updatedRowCount += count;
+			}
+			else if(count == Statement.SUCCESS_NO_INFO)
+			{
+				this.unknownRowCount += rowsPerCount;
+			}
+		}
+		
+		if(this.collectUpdateCounts)
+		{
+			if(this.updateCountsSize + counts.length > this.updateCounts.length)
+			{
+				int capacity = Math.max(this.updateCounts.length * 2, this.updateCountsSize + counts.length);
+				
+				this.updateCounts = Arrays.copyOf(this.updateCounts, capacity);
+			}
+			
+			System.arraycopy(counts, 0, this.updateCounts, this.updateCountsSize, counts.length);
+			
+			this.updateCountsSize += counts.length;
+		}
+	}
+	
+	void addCommit()
+	{
+		this.commitCount++;
+	}
+	
+	void setChunkSize(int chunkSize, int adjustments)
+	{
+		this.chunkSize = chunkSize;
+		this.chunkSizeAdjustments = adjustments;
+	}
+	
+	/**
+	 * Gets the chunk size in use at the end of the execution, the one the adaptive mode converged on.
+	 *
+	 * @see BatchOptions#setAdaptiveChunkSize(int, int)
+	 */
+	public int getChunkSize()
+	{
+		return this.chunkSize;
+	}
+	
+	/**
+	 * Gets how many times the adaptive mode changed the chunk size.
+	 */
+	public int getChunkSizeAdjustments()
+	{
+		return this.chunkSizeAdjustments;
+	}
+	
+	/**
+	 * Gets the time spent in {@code executeBatch} round trips, in nanoseconds.
+	 */
+	public long getExecutionNanos()
+	{
+		return this.executionNanos;
+	}
+	
+	/**
+	 * Gets the throughput of the {@code executeBatch} round trips.
+	 *
+	 * @return the rows sent per second, zero if no row was sent.
+	 */
+	public double getRowsPerSecond()
+	{
+		return this.executionNanos > 0L ? this.rowCount * 1_000_000_000.0 / this.executionNanos : 0.0;
+	}
+	
+	/**
+	 * Gets the number of rows sent to the database.
+	 */
+	public long getRowCount()
+	{
+		return this.rowCount;
+	}
+	
+	/**
+	 * Gets the total number of rows affected, as reported by the driver.
+	 */
+	public long getUpdatedRowCount()
+	{
+		return this.updatedRowCount;
+	}
+	
+	/**
+	 * Gets the number of rows executed successfully for which the driver did not report an update count
+	 * ({@link Statement#SUCCESS_NO_INFO}), as happens when the driver rewrites the batch.
+	 */
+	public long getUnknownRowCount()
+	{
+		return this.unknownRowCount;
+	}
+	
+	/**
+	 * Gets the number of {@code executeBatch} round trips.
+	 */
+	public int getChunkCount()
+	{
+		return this.chunkCount;
+	}
+	
+	/**
+	 * Gets the number of commits issued by the batch.
+	 */
+	public int getCommitCount()
+	{
+		return this.commitCount;
+	}
+	
+	/**
+	 * Gets the update count of every row, in input order.
+	 * With multi-row inserts, there is one count per executed statement instead.
+	 *
+	 * @return the update counts, or {@code null} if they were not collected.
+	 * @see BatchOptions#setCollectUpdateCounts(boolean)
+	 */
+	public int[] getUpdateCounts()
+	{
+		return this.collectUpdateCounts ? Arrays.copyOf(this.updateCounts, this.updateCountsSize) : null;
+	}
+	
+	/**
+	 * Returns a concise, single-line string representation of the batch totals.
+	 *
+	 * @return a short string summarizing the batch
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" rows: ").append(this.rowCount);
+		sb.append(", updated: ").append(this.updatedRowCount);
+		sb.append(", unknown: ").append(this.unknownRowCount);
+		sb.append(", chunks: ").append(this.chunkCount);
+		sb.append(", chunk size: ").append(this.chunkSize);
+		sb.append(", rows/s: ").append(Math.round(this.getRowsPerSecond()));
+		sb.append(", commits: ").append(this.commitCount);
+		
+		return sb.toString();
+	}
+}
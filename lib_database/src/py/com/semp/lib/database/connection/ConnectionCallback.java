@@ -0,0 +1,25 @@
+package py.com.semp.lib.database.connection;
+
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * Work executed with a {@link DatabaseConnection} that is bound only for the duration of the call.
+ *
+ * @param <T> The type of the result.
+ * @author Sergio Morel
+ * @see DatabaseConnectionManager#withConnection(py.com.semp.lib.database.configuration.DatabaseConfiguration, ConnectionCallback)
+ */
+@FunctionalInterface
+public interface ConnectionCallback<T>
+{
+	/**
+	 * Executes the work using the given connection.
+	 * <p>
+	 * The connection must not be closed nor kept after this method returns.
+	 *
+	 * @param connection The connection bound to the current scope.
+	 * @return the result of the work, may be {@code null}.
+	 * @throws DataAccessException If the work fails.
+	 */
+	T execute(DatabaseConnection connection) throws DataAccessException;
+}
@@ -0,0 +1,98 @@
+package py.com.semp.lib.database.connection;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+
+/**
+ * Owns the single daemon thread that runs every background maintenance task of the library,
+ * so the request path never has to do that work itself.
+ * <p>
+ * The thread is created the first time a task is scheduled. Work that blocks on the network, like opening
+ * connections, is handed to {@link #execute(Runnable)} instead, so an unreachable database never stalls
+ * the maintenance of the other pools and of the connection registry.
+ *
+ * @author Sergio Morel
+ */
+final class ConnectionHousekeeper
+{
+	private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(ConnectionHousekeeper::newThread);
+	private static final ExecutorService openers = Executors.newCachedThreadPool(ConnectionHousekeeper::newOpenerThread);
+	
+	private ConnectionHousekeeper()
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.DONT_INSTANTIATE, this.getClass().getName());
+		
+		throw new AssertionError(errorMessage);
+	}
+	
+	private static Thread newThread(Runnable runnable)
+	{
+		Thread thread = new Thread(runnable, Values.Constants.HOUSEKEEPING_THREAD_NAME);
+		
+		thread.setDaemon(true);
+		
+		return thread;
+	}
+	
+	private static Thread newOpenerThread(Runnable runnable)
+	{
+		Thread thread = new Thread(runnable, Values.Constants.WARM_UP_THREAD_NAME);
+		
+		thread.setDaemon(true);
+		
+		return thread;
+	}
+	
+	/**
+	 * Schedules a task to run repeatedly with the given delay between executions.
+	 * Exceptions thrown by the task are logged and do not cancel later executions.
+	 *
+	 * @param task The task to run.
+	 * @param delayMillis The delay in milliseconds between the end of an execution and the start of the next.
+	 * @return the future that can be used to cancel the task.
+	 */
+	static ScheduledFuture<?> schedule(Runnable task, long delayMillis)
+	{
+		return executor.scheduleWithFixedDelay(guard(task), delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Runs a blocking maintenance task, like opening connections, on a daemon thread of its own,
+	 * outside of the housekeeping thread. Threads are reused and end after staying idle.
+	 * Exceptions thrown by the task are logged.
+	 *
+	 * @param task The task to run.
+	 */
+	static void execute(Runnable task)
+	{
+		openers.execute(guard(task));
+	}
+	
+	private static Runnable guard(Runnable task)
+	{
+		return () ->
+		{
+			try
+			{
+				task.run();
+			}
+			catch(RuntimeException e)
+			{
+				Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+				
+				String errorMessage = MessageUtil.getMessage(Messages.HOUSEKEEPING_TASK_ERROR);
+				
+				logger.warning(errorMessage, e);
+			}
+		};
+	}
+}
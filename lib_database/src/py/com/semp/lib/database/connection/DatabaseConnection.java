@@ -1,23 +1,35 @@
 package py.com.semp.lib.database.connection;
 
-import java.math.BigDecimal;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
-import java.sql.DriverManager;
+import java.sql.Driver;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import py.com.semp.lib.database.configuration.DatabaseConfiguration;
 import py.com.semp.lib.database.configuration.Values;
 import py.com.semp.lib.database.internal.MessageUtil;
 import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.database.mapping.GenerateMapper;
+import py.com.semp.lib.database.mapping.ParameterBinder;
+import py.com.semp.lib.database.mapping.ResultSetMapper;
+import py.com.semp.lib.database.mapping.RowMapper;
+import py.com.semp.lib.database.mapping.ValueBinder;
+import py.com.semp.lib.database.mapping.ValueBinders;
 import py.com.semp.lib.database.utilities.DBUtils;
+import py.com.semp.lib.database.utilities.NamedQuery;
 import py.com.semp.lib.utilidades.exceptions.DataAccessException;
 import py.com.semp.lib.utilidades.log.Logger;
 import py.com.semp.lib.utilidades.log.LoggerManager;
@@ -36,7 +48,7 @@ import py.com.semp.lib.utilidades.log.LoggerManager;
  *   <li>Configuration-based connection setup using {@link DatabaseConfiguration}</li>
  *   <li>Automatic driver loading and connection timeout handling</li>
  *   <li>Support for standard and prepared statements with type-safe parameter binding</li>
- *   <li>Named query parsing and execution with support for escaped colon syntax (e.g., {@code ::name})</li>
+ *   <li>Named query parsing and execution that skips literals and comments and preserves casts (e.g., {@code ::name})</li>
  *   <li>Commit, rollback, and auto-commit control</li>
  *   <li>Safe resource management and silent close functionality</li>
  *   <li>Structured logging using {@link LoggerManager}</li>
@@ -64,14 +76,31 @@ import py.com.semp.lib.utilidades.log.LoggerManager;
  * @author Sergio Morel
  * @see DatabaseConfiguration
  * @see DBUtils
+ * @see NamedQuery
  * @see DataAccessException
  */
 public final class DatabaseConnection implements AutoCloseable
 {
 	private Object key;
+	private Reference<Object> keyReference;
 	private Connection connection;
 	private DatabaseConfiguration configuration;
 	private Logger logger;
+	private DatabaseConnectionPool pool;
+	private final AtomicBoolean leased = new AtomicBoolean();
+	private volatile DatabaseConnectionManager.ConnectionSlot slot;
+	private boolean autoCommit;
+	private boolean transactionDirty;
+	private boolean reconnectOnDemand;
+	private volatile long lastUsedNanos;
+	private long idleTimeoutNanos;
+	private long expiresAtNanos;
+	private boolean expires;
+	private long validationIntervalNanos;
+	private int validationTimeoutSeconds;
+	private String testQuery;
+	private boolean suspect;
+	private StatementCache statementCache;
 	
 	/**
 	 * Creates a new {@code DatabaseConnection} with the given key.
@@ -139,12 +168,30 @@ public final class DatabaseConnection implements AutoCloseable
 	
 	/**
 	 * Returns the unique key associated with this {@code DatabaseConnection} instance.
+	 * <p>
+	 * Keys bound by {@link DatabaseConnectionManager} or {@link DatabaseConnectionPool} are held weakly,
+	 * so this method returns {@code null} once such a key has been garbage collected.
 	 *
 	 * @return The object key used to identify this connection.
 	 */
 	public Object getKey()
 	{
-		return this.key;
+		if(this.key != null)
+		{
+			return this.key;
+		}
+		
+		return this.keyReference != null ? this.keyReference.get() : null;
+	}
+	
+	/**
+	 * Associates this connection with a key without keeping the key reachable,
+	 * so the registry can detect when the key owner is gone.
+	 */
+	void bindKey(Object key)
+	{
+		this.key = null;
+		this.keyReference = key != null ? new WeakReference<>(key) : null;
 	}
 	
 	/**
@@ -183,7 +230,8 @@ public final class DatabaseConnection implements AutoCloseable
 	 * 
 	 * <p>
 	 * If a connection is already open, this method will raise an exception to prevent accidental reconnection.
-	 * The driver is loaded using {@code Class.forName}, and the connection is established via {@code DriverManager}.
+	 * The driver is resolved once per {@link DatabaseEngine} and the connection is established directly through it,
+	 * with the login timeout passed as a driver property.
 	 * Auto-commit is disabled by default.
 	 * </p>
 	 *
@@ -209,34 +257,44 @@ public final class DatabaseConnection implements AutoCloseable
 		String user = configuration.getValue(Values.VariableNames.DATABASE_USER_NAME);
 		String password = configuration.getValue(Values.VariableNames.DATABASE_PASSWORD);
 		
-		try
-		{
-			Class.forName(driverClass);
-		}
-		catch(ClassNotFoundException e)
-		{
-			String errorMessage = MessageUtil.getMessage(Messages.DATABASE_DRIVER_NOT_FOUND_ERROR, driverClass);
-			
-			throw new DataAccessException(errorMessage, e);
-		}
+		Driver driver = dbEngine.getDriver();
 		
 		String debugMessage = MessageUtil.getMessage(Messages.CONNECTING_TO_DATABASE, dbEngine.name(), driverClass, timeout, url, user);
 		
 		this.logger.debug(debugMessage);
 		
-		DriverManager.setLoginTimeout(timeout);
+		Properties properties = getConnectionProperties(configuration, dbEngine, user, password, timeout);
+		
+		Connection connection;
 		
 		try
 		{
-			this.connection = DriverManager.getConnection(url, user, password);
+			connection = driver.connect(url, properties);
 		}
 		catch(SQLException e)
 		{
 			throw new DataAccessException(debugMessage, e);
 		}
 		
+		if(connection == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.DRIVER_URL_NOT_ACCEPTED_ERROR, driverClass, url);
+			
+			throw new DataAccessException(errorMessage);
+		}
+		
+		this.connection = connection;
+		
+		this.reconnectOnDemand = false;
+		
+		this.startLifetime(configuration);
+		this.loadValidationPolicy(configuration);
+		this.resetStatementCache(configuration);
+		
 		this.setAutoCommit(false);
 		
+		this.transactionDirty = false;
+		
 		try
 		{
 			if(this.logger.isDebugging())
@@ -258,6 +316,224 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 	}
 	
+	/**
+	 * Builds the properties passed to the driver: the engine performance profile, the login timeout set through the
+	 * engine specific property instead of the JVM-wide {@code DriverManager} setting, and then the configured overrides.
+	 */
+	private static Properties getConnectionProperties(DatabaseConfiguration configuration, DatabaseEngine dbEngine, String user, String password, Integer timeout) throws DataAccessException
+	{
+		Properties properties = new Properties();
+		
+		Boolean profileEnabled = configuration.getValue(Values.VariableNames.DATABASE_PERFORMANCE_PROFILE_ENABLED);
+		
+		if(profileEnabled == null ? Values.Defaults.DATABASE_PERFORMANCE_PROFILE_ENABLED : profileEnabled)
+		{
+			properties.putAll(dbEngine.getPerformanceProfile());
+		}
+		
+		String timeoutProperty = dbEngine.getLoginTimeoutProperty();
+		
+		if(timeout != null && timeout > 0 && timeoutProperty != null)
+		{
+			properties.setProperty(timeoutProperty, dbEngine.toLoginTimeoutValue(timeout));
+		}
+		
+		String driverProperties = configuration.getValue(Values.VariableNames.DATABASE_DRIVER_PROPERTIES);
+		
+		if(driverProperties != null)
+		{
+			for(String entry : driverProperties.split(";"))
+			{
+				if(entry.isBlank())
+				{
+					continue;
+				}
+				
+				int separator = entry.indexOf('=');
+				
+				if(separator <= 0)
+				{
+					String errorMessage = MessageUtil.getMessage(Messages.INVALID_DRIVER_PROPERTY_ERROR, entry.trim());
+					
+					throw new DataAccessException(errorMessage);
+				}
+				
+				String name = entry.substring(0, separator).trim();
+				String value = entry.substring(separator + 1).trim();
+				
+				if(value.isEmpty())
+				{
+					properties.remove(name);
+				}
+				else
+				{
+					properties.setProperty(name, value);
+				}
+			}
+		}
+		
+		if(user != null)
+		{
+			properties.setProperty("user", user);
+		}
+		
+		if(password != null)
+		{
+			properties.setProperty("password", password);
+		}
+		
+		return properties;
+	}
+	
+	/**
+	 * Starts the idle and lifetime clocks of a newly established connection.
+	 * The maximum lifetime is shortened by a random jitter so connections opened together are not retired together.
+	 */
+	private void startLifetime(DatabaseConfiguration configuration)
+	{
+		long now = System.nanoTime();
+		
+		this.lastUsedNanos = now;
+		
+		int idleTimeout = getIntValue(configuration, Values.VariableNames.CONNECTION_IDLE_TIMEOUT_SECONDS, Values.Defaults.CONNECTION_IDLE_TIMEOUT_SECONDS);
+		int maxLifetime = getIntValue(configuration, Values.VariableNames.CONNECTION_MAX_LIFETIME_SECONDS, Values.Defaults.CONNECTION_MAX_LIFETIME_SECONDS);
+		int jitterPercent = getIntValue(configuration, Values.VariableNames.CONNECTION_MAX_LIFETIME_JITTER_PERCENT, Values.Defaults.CONNECTION_MAX_LIFETIME_JITTER_PERCENT);
+		
+		this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(Math.max(0, idleTimeout));
+		this.expires = maxLifetime > 0;
+		
+		if(this.expires)
+		{
+			long lifetimeNanos = TimeUnit.SECONDS.toNanos(maxLifetime);
+			long maxJitterNanos = lifetimeNanos / 100L * Math.min(Math.max(0, jitterPercent), 100);
+			long jitterNanos = maxJitterNanos > 0L ? ThreadLocalRandom.current().nextLong(maxJitterNanos) : 0L;
+			
+			this.expiresAtNanos = now + lifetimeNanos - jitterNanos;
+		}
+	}
+	
+	/**
+	 * Reads how long a connection is trusted after its last successful use and how it is validated afterwards.
+	 */
+	private void loadValidationPolicy(DatabaseConfiguration configuration)
+	{
+		int validationInterval = getIntValue(configuration, Values.VariableNames.CONNECTION_VALIDATION_INTERVAL_MILLIS, Values.Defaults.CONNECTION_VALIDATION_INTERVAL_MILLIS);
+		int validationTimeout = getIntValue(configuration, Values.VariableNames.CONNECTION_VALIDATION_TIMEOUT_SECONDS, Values.Defaults.CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+		String testQuery = configuration.getValue(Values.VariableNames.CONNECTION_TEST_QUERY);
+		
+		this.validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, validationInterval));
+		this.validationTimeoutSeconds = Math.max(0, validationTimeout);
+		this.testQuery = testQuery != null && !testQuery.isBlank() ? testQuery : null;
+		this.suspect = false;
+	}
+	
+	/**
+	 * Drops the statements prepared on a previous physical connection and applies the configured cache size.
+	 * The cache counters are kept across reconnections.
+	 */
+	private void resetStatementCache(DatabaseConfiguration configuration)
+	{
+		int cacheSize = getIntValue(configuration, Values.VariableNames.STATEMENT_CACHE_SIZE, Values.Defaults.STATEMENT_CACHE_SIZE);
+		
+		if(this.statementCache == null)
+		{
+			this.statementCache = new StatementCache(cacheSize, this.logger);
+		}
+		else
+		{
+			this.statementCache.clear();
+			this.statementCache.setMaxSize(cacheSize);
+		}
+	}
+	
+	/**
+	 * Returns the cache of prepared statements used by the {@code executeUpdate}, {@code executeQuery} and
+	 * named variants taking parameters, with its hit, miss and eviction counters.
+	 *
+	 * @return the statement cache, or {@code null} if the connection was never established.
+	 */
+	public StatementCache getStatementCache()
+	{
+		return this.statementCache;
+	}
+	
+	private static int getIntValue(DatabaseConfiguration configuration, String name, Integer defaultValue)
+	{
+		Integer value = configuration.getValue(name);
+		
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Returns whether the connection exceeded its maximum lifetime.
+	 */
+	boolean isExpired(long nowNanos)
+	{
+		return this.expires && nowNanos - this.expiresAtNanos >= 0L;
+	}
+	
+	/**
+	 * Returns whether the connection has been unused for longer than its idle timeout.
+	 */
+	boolean isIdleTimedOut(long nowNanos)
+	{
+		return this.idleTimeoutNanos > 0L && nowNanos - this.lastUsedNanos > this.idleTimeoutNanos;
+	}
+	
+	/**
+	 * Marks the connection as used now, so a cursor being read keeps its connection from timing out.
+	 */
+	void touch()
+	{
+		this.lastUsedNanos = System.nanoTime();
+	}
+	
+	/**
+	 * Returns whether a connection that is not pooled must be retired before its next use: it must be connected,
+	 * have no pending work, and be idle past its timeout or expired.
+	 * Pooled connections are retired by their pool instead.
+	 */
+	private boolean isRetirable(long nowNanos)
+	{
+		if(this.connection == null || this.pool != null || (this.transactionDirty && !this.autoCommit))
+		{
+			return false;
+		}
+		
+		return this.isIdleTimedOut(nowNanos) || this.isExpired(nowNanos);
+	}
+	
+	/**
+	 * Closes the physical connection before it is used again, so it can be transparently re-established.
+	 * Only called by the thread using the connection, never in the background.
+	 */
+	private void retire()
+	{
+		
+		try
+		{
+			this.connection.close();
+			
+			if(this.logger.isDebugging())
+			{
+				String debugMessage = MessageUtil.getMessage(Messages.CONNECTION_EVICTED, this);
+				
+				this.logger.debug(debugMessage);
+			}
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CLOSING_DATABASE_ERROR);
+			
+			this.logger.warning(errorMessage, e);
+		}
+		finally
+		{
+			this.connection = null;
+			this.reconnectOnDemand = true;
+		}
+	}
+	
 	/**
 	 * Retrieves the {@link DatabaseMetaData} for the current database connection.
 	 *
@@ -293,6 +569,8 @@ public final class DatabaseConnection implements AutoCloseable
 	{
 		this.assertConnected();
 		
+		this.transactionDirty = true;
+		
 		return this.connection;
 	}
 	
@@ -317,6 +595,9 @@ public final class DatabaseConnection implements AutoCloseable
 	 * Closes the active database connection if it exists.
 	 * <p>
 	 * Logs a debug message on successful closure and sets the internal connection to {@code null}.
+	 * If this connection is leased from a {@link DatabaseConnectionPool}, the physical connection is
+	 * closed as well and its slot is given back to the pool. Use {@link #close()} to return the lease
+	 * while keeping the physical connection open.
 	 *
 	 * @throws DataAccessException if an error occurs while closing the connection.
 	 */
@@ -344,6 +625,10 @@ public final class DatabaseConnection implements AutoCloseable
 			finally
 			{
 				this.connection = null;
+				this.reconnectOnDemand = false;
+				this.statementCache.clear();
+				
+				this.returnLease();
 			}
 		}
 	}
@@ -378,16 +663,43 @@ public final class DatabaseConnection implements AutoCloseable
 			finally
 			{
 				this.connection = null;
+				this.reconnectOnDemand = false;
+				this.statementCache.clear();
+				
+				this.returnLease();
 			}
 		}
 	}
 	
 	/**
-	 * Checks whether a database connection is currently active and open.
+	 * Checks whether a database connection is currently active and usable.
+	 * <p>
+	 * A connection used successfully within the configured validation interval is trusted without
+	 * contacting the database. Otherwise, or after an operation failed, it is validated with
+	 * {@link Connection#isValid(int)} or the configured test query. A connection failing validation is closed,
+	 * and re-established on next use if it had no pending work.
 	 *
-	 * @return {@code true} if a connection exists and is not closed; {@code false} otherwise.
+	 * @return {@code true} if a connection exists and is usable; {@code false} otherwise.
 	 */
 	public boolean isConnected()
+	{
+		if(this.connection == null)
+		{
+			return false;
+		}
+		
+		if(!this.suspect && System.nanoTime() - this.lastUsedNanos < this.validationIntervalNanos)
+		{
+			return true;
+		}
+		
+		return this.validate();
+	}
+	
+	/**
+	 * Checks whether the physical connection is open, without contacting the database.
+	 */
+	private boolean isOpen()
 	{
 		try
 		{
@@ -399,6 +711,83 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 	}
 	
+	/**
+	 * Runs a validation round trip, refreshing the last successful use on success
+	 * and closing the physical connection on failure.
+	 */
+	private boolean validate()
+	{
+		Connection connection = this.connection;
+		
+		try
+		{
+			boolean valid;
+			
+			if(this.testQuery != null)
+			{
+				try(Statement statement = connection.createStatement())
+				{
+					statement.setQueryTimeout(this.validationTimeoutSeconds);
+					statement.execute(this.testQuery);
+				}
+				
+				// Do not leave the test query as an open transaction
+				if(!this.autoCommit && !this.transactionDirty)
+				{
+					connection.rollback();
+				}
+				
+				valid = true;
+			}
+			else
+			{
+				valid = connection.isValid(this.validationTimeoutSeconds);
+			}
+			
+			if(valid)
+			{
+				this.suspect = false;
+				this.lastUsedNanos = System.nanoTime();
+				
+				return true;
+			}
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CONNECTION_VALIDATION_ERROR);
+			
+			this.logger.warning(errorMessage, e);
+		}
+		
+		this.discardInvalid();
+		
+		return false;
+	}
+	
+	/**
+	 * Closes a physical connection that failed validation. Pending work is lost with it, so the connection
+	 * is only re-established on demand when there was none. The auto-commit mode is kept, so
+	 * {@link #reconnect()} restores it.
+	 */
+	private void discardInvalid()
+	{
+		try
+		{
+			this.connection.close();
+		}
+		catch(SQLException e)
+		{
+			this.logger.debug(e);
+		}
+		finally
+		{
+			this.connection = null;
+			this.suspect = false;
+			this.reconnectOnDemand = this.autoCommit || !this.transactionDirty;
+			this.statementCache.clear();
+		}
+	}
+	
 	/**
 	 * Checks if the current database connection is still valid.
 	 *
@@ -442,6 +831,8 @@ public final class DatabaseConnection implements AutoCloseable
 		{
 			this.connection.setAutoCommit(autoCommit);
 			
+			this.autoCommit = autoCommit;
+			
 			if(this.logger.isDebugging())
 			{
 				String message = MessageUtil.getMessage(Messages.SET_AUTO_COMMIT, autoCommit);
@@ -451,6 +842,8 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.SET_AUTO_COMMIT_ERROR, autoCommit);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -473,6 +866,8 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.GET_AUTO_COMMIT_ERROR);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -493,9 +888,13 @@ public final class DatabaseConnection implements AutoCloseable
 		try
 		{
 			this.connection.commit();
+			
+			this.transactionDirty = false;
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.COMMIT_ERROR);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -516,9 +915,13 @@ public final class DatabaseConnection implements AutoCloseable
 		try
 		{
 			this.connection.rollback();
+			
+			this.transactionDirty = false;
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.ROLLBACK_ERROR);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -545,6 +948,8 @@ public final class DatabaseConnection implements AutoCloseable
 		
 		Statement statement = null;
 		
+		this.transactionDirty = true;
+		
 		try
 		{
 			statement = this.connection.createStatement();
@@ -560,6 +965,8 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			if(statement != null)
 			{
 				try
@@ -600,6 +1007,8 @@ public final class DatabaseConnection implements AutoCloseable
 		
 		PreparedStatement preparedStatement = null;
 		
+		this.transactionDirty = true;
+		
 		try
 		{
 			preparedStatement = this.connection.prepareStatement(sql);
@@ -615,6 +1024,8 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			if(preparedStatement != null)
 			{
 				try
@@ -636,29 +1047,128 @@ public final class DatabaseConnection implements AutoCloseable
 	}
 	
 	/**
-	 * Verifies that a database connection is currently active.
-	 * <p>
-	 * This method should be used in subclasses before attempting to access
-	 * or manipulate the underlying {@link java.sql.Connection}.
-	 * </p>
-	 *
-	 * @throws DataAccessException if the connection is {@code null} or has been closed.
-	 * 
-	 * @see #isConnected()
+	 * Checks out a forward-only, read-only {@link PreparedStatement} for the given SQL from the statement cache,
+	 * preparing it only on a cache miss. It must be given back with {@link #releaseStatement(PreparedStatement, ResultSet)}.
 	 */
-	protected void assertConnected() throws DataAccessException
+	private PreparedStatement acquireStatement(String sql) throws DataAccessException
 	{
-		if(!this.isConnected())
+		this.assertConfigured();
+		this.assertConnected();
+		
+		PreparedStatement preparedStatement = null;
+		
+		this.transactionDirty = true;
+		
+		try
 		{
-			String errorMessage = MessageUtil.getMessage(Messages.DATABASE_NOT_CONNECTED_ERROR);
+			preparedStatement = this.statementCache.acquire(this.connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
 			
-			throw new DataAccessException(errorMessage);
+			Integer fetchSize = this.configuration.getValue(Values.VariableNames.DATABASE_FETCH_SIZE);
+			
+			if(fetchSize != null)
+			{
+				preparedStatement.setFetchSize(fetchSize);
+			}
+			
+			return preparedStatement;
 		}
-	}
-	
-	/**
-	 * Verifies that the {@link DatabaseConfiguration} has been set and is valid.
-	 * <p>
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			if(preparedStatement != null)
+			{
+				this.statementCache.invalidate(preparedStatement);
+			}
+			
+			String errorMessage = MessageUtil.getMessage(Messages.CREATING_PREPARED_STATEMENT_ERROR, sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * Gives a statement back to the statement cache. If a result set was handed to the caller,
+	 * the statement is not reused until that result set is closed.
+	 */
+	private void releaseStatement(PreparedStatement preparedStatement, ResultSet resultSet)
+	{
+		if(this.connection == null)
+		{
+			return;
+		}
+		
+		this.statementCache.release(preparedStatement, resultSet);
+	}
+	
+	/**
+	 * Prepares a statement into the statement cache without executing it, used to warm up connections.
+	 */
+	void cacheStatement(String sql) throws DataAccessException
+	{
+		this.releaseStatement(this.acquireStatement(sql), null);
+	}
+	
+	/**
+	 * Verifies that a database connection is currently active.
+	 * <p>
+	 * This method should be used in subclasses before attempting to access
+	 * or manipulate the underlying {@link java.sql.Connection}.
+	 * </p>
+	 *
+	 * <p>
+	 * A connection that is not pooled and has been idle past its timeout or exceeded its maximum lifetime,
+	 * with no pending work, is closed and re-established here, as is a connection closed after failing validation.
+	 * The last use time of the connection is updated on every successful check.
+	 * </p>
+	 *
+	 * @throws DataAccessException if the connection is {@code null} or has been closed.
+	 * 
+	 * @see #isConnected()
+	 */
+	protected void assertConnected() throws DataAccessException
+	{
+		if(this.isRetirable(System.nanoTime()))
+		{
+			this.retire();
+		}
+		
+		if(!this.isConnected())
+		{
+			if(this.reconnectOnDemand && this.connection == null)
+			{
+				this.reconnect();
+				
+				return;
+			}
+			
+			String errorMessage = MessageUtil.getMessage(Messages.DATABASE_NOT_CONNECTED_ERROR);
+			
+			throw new DataAccessException(errorMessage);
+		}
+		
+		this.lastUsedNanos = System.nanoTime();
+	}
+	
+	/**
+	 * Re-establishes the connection. When it was closed transparently, the auto-commit mode its holder had set
+	 * is restored, since {@link #connect()} always starts in manual-commit mode.
+	 */
+	void reconnect() throws DataAccessException
+	{
+		boolean autoCommit = this.reconnectOnDemand && this.autoCommit;
+		
+		this.connect();
+		
+		if(autoCommit)
+		{
+			this.setAutoCommit(true);
+		}
+	}
+	
+	/**
+	 * Verifies that the {@link DatabaseConfiguration} has been set and is valid.
+	 * <p>
 	 * This method should be called before performing any operation that
 	 * relies on configuration values (such as driver class, URL, credentials, etc.).
 	 * Subclasses may use this to ensure preconditions are satisfied.
@@ -698,6 +1208,8 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, sql);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -710,6 +1222,9 @@ public final class DatabaseConnection implements AutoCloseable
 	 * A {@link java.sql.PreparedStatement} is created and populated using the specified parameters. 
 	 * Parameter placeholders in the SQL should be marked with {@code ?} and must match the number of arguments provided.
 	 * </p>
+	 * <p>
+	 * The statement is taken from the {@link StatementCache} of the connection and returned to it after execution.
+	 * </p>
 	 *
 	 * @param sql the SQL statement to execute, containing {@code ?} placeholders for parameters.
 	 * @param parameters the ordered parameters to bind to the SQL statement.
@@ -717,12 +1232,14 @@ public final class DatabaseConnection implements AutoCloseable
 	 * @throws DataAccessException if a database access error occurs or the statement is invalid.
 	 *
 	 * @see java.sql.PreparedStatement#executeUpdate()
-	 * @see #createPreparedStatement(String)
+	 * @see #getStatementCache()
 	 * @see #setParameterStatement(PreparedStatement, int, Object)
 	 */
 	public int executeUpdate(String sql, Object... parameters) throws DataAccessException
 	{
-		try(PreparedStatement preparedStatement = this.createPreparedStatement(sql))
+		PreparedStatement preparedStatement = this.acquireStatement(sql);
+		
+		try
 		{
 			for (int i = 0; i < parameters.length; i++)
 			{
@@ -733,16 +1250,23 @@ public final class DatabaseConnection implements AutoCloseable
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, sql);
 			
 			throw new DataAccessException(errorMessage, e);
 		}
+		finally
+		{
+			this.releaseStatement(preparedStatement, null);
+		}
 	}
 	
 	/**
 	 * Executes an update statement (e.g., INSERT, UPDATE, DELETE) using a named parameter SQL string.
 	 * Named parameters in the form of {@code :name} will be replaced with {@code ?} placeholders,
 	 * and their corresponding values will be retrieved from the provided map.
+	 * The query is compiled once into a {@link NamedQuery} and the values are bound directly from the map.
 	 *
 	 * @param namedQuery The SQL string with named parameters (e.g., {@code UPDATE users SET name = :name WHERE id = :id}).
 	 * @param valuesMap A map containing parameter names and their corresponding values.
@@ -751,11 +1275,28 @@ public final class DatabaseConnection implements AutoCloseable
 	 */
 	public int executeNamedUpdate(String namedQuery, Map<String, Object> valuesMap) throws DataAccessException
 	{
-		List<Object> values = new LinkedList<>();
+		NamedQuery query = NamedQuery.compile(namedQuery, this.getDatabaseEngine());
 		
-		String jdbcSQL = DBUtils.parseNamedQueryToJDBC(namedQuery, valuesMap, values);
+		PreparedStatement preparedStatement = this.acquireStatement(query.getSQL());
 		
-		return this.executeUpdate(jdbcSQL, values.toArray());
+		try
+		{
+			query.bind(preparedStatement, valuesMap);
+			
+			return preparedStatement.executeUpdate();
+		}
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, query.getSQL());
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		finally
+		{
+			this.releaseStatement(preparedStatement, null);
+		}
 	}
 	
 	/**
@@ -774,12 +1315,30 @@ public final class DatabaseConnection implements AutoCloseable
 	 */
 	public ResultSet executeQuery(String sql) throws DataAccessException
 	{
-		try(Statement statement = this.createStatement())
+		Statement statement = this.createStatement();
+		
+		try
 		{
-			return statement.executeQuery(sql);
+			ResultSet resultSet = statement.executeQuery(sql);
+			
+			// The statement must outlive this method, it is closed together with the result set
+			statement.closeOnCompletion();
+			
+			return resultSet;
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
+			try
+			{
+				statement.close();
+			}
+			catch(SQLException closeException)
+			{
+				e.addSuppressed(closeException);
+			}
+			
 			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, sql);
 			
 			throw new DataAccessException(errorMessage, e);
@@ -795,6 +1354,8 @@ public final class DatabaseConnection implements AutoCloseable
 	 * </p>
 	 * <p>
 	 * The caller is responsible for processing and closing the returned {@code ResultSet}.
+	 * The statement is taken from the {@link StatementCache} of the connection and is not reused
+	 * until the returned {@code ResultSet} is closed.
 	 * </p>
 	 *
 	 * @param sql the SQL query containing {@code ?} placeholders for parameters.
@@ -803,32 +1364,46 @@ public final class DatabaseConnection implements AutoCloseable
 	 * @throws DataAccessException if a database access error occurs or the statement is invalid.
 	 *
 	 * @see java.sql.PreparedStatement#executeQuery()
-	 * @see #createPreparedStatement(String)
+	 * @see #getStatementCache()
+	 * @see #openQuery(String, Object...)
 	 * @see #setParameterStatement(PreparedStatement, int, Object)
 	 */
 	public ResultSet executeQuery(String sql, Object... parameters) throws DataAccessException
 	{
-		try(PreparedStatement preparedStatement = this.createPreparedStatement(sql))
+		PreparedStatement preparedStatement = this.acquireStatement(sql);
+		
+		ResultSet resultSet = null;
+		
+		try
 		{
 			for (int i = 0; i < parameters.length; i++)
 			{
 				setParameterStatement(preparedStatement, i, parameters[i]);
 			}
 			
-			return preparedStatement.executeQuery();
+			resultSet = preparedStatement.executeQuery();
+			
+			return resultSet;
 		}
 		catch(SQLException e)
 		{
+			this.suspect = true;
+			
 			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, sql);
 			
 			throw new DataAccessException(errorMessage, e);
 		}
+		finally
+		{
+			this.releaseStatement(preparedStatement, resultSet);
+		}
 	}
 	
 	/**
 	 * Executes a query statement (e.g., SELECT) using a named parameter SQL string.
 	 * Named parameters in the form of {@code :name} will be replaced with {@code ?} placeholders,
 	 * and their corresponding values will be retrieved from the provided map.
+	 * The query is compiled once into a {@link NamedQuery} and the values are bound directly from the map.
 	 *
 	 * @param namedQuery The SQL string with named parameters (e.g., {@code SELECT * FROM users WHERE status = :status}).
 	 * @param valuesMap A map containing parameter names and their corresponding values.
@@ -837,158 +1412,723 @@ public final class DatabaseConnection implements AutoCloseable
 	 */
 	public ResultSet executeNamedQuery(String namedQuery, Map<String, Object> valuesMap) throws DataAccessException
 	{
-		List<Object> values = new LinkedList<>();
+		NamedQuery query = NamedQuery.compile(namedQuery, this.getDatabaseEngine());
 		
-		String jdbcSQL = DBUtils.parseNamedQueryToJDBC(namedQuery, valuesMap, values);
+		PreparedStatement preparedStatement = this.acquireStatement(query.getSQL());
 		
-		return this.executeQuery(jdbcSQL, values.toArray());
+		ResultSet resultSet = null;
+		
+		try
+		{
+			query.bind(preparedStatement, valuesMap);
+			
+			resultSet = preparedStatement.executeQuery();
+			
+			return resultSet;
+		}
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, query.getSQL());
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		finally
+		{
+			this.releaseStatement(preparedStatement, resultSet);
+		}
 	}
 	
 	/**
-	 * Sets a parameter value in the given {@link PreparedStatement}, inferring the correct setter method
-	 * based on the runtime type of the parameter.
+	 * Executes the given SQL query with positional parameters, returning a cursor that streams its rows.
 	 * <p>
-	 * This method wraps various {@code PreparedStatement.setXXX()} calls, including support for standard
-	 * types such as {@link String}, numeric wrappers, {@link java.util.Date}, {@link java.sql.Date}, 
-	 * {@link java.sql.Timestamp}, {@code byte[]} and {@link Boolean}. If the parameter type is not explicitly
-	 * handled, it defaults to {@code setObject}.
-	 * </p>
-	 * <p>
-	 * The parameter index is zero-based for usability, but internally adjusted to JDBC's one-based index.
+	 * Unlike {@link #executeQuery(String, Object...)}, the statement is owned by the returned {@link QueryResult}
+	 * and configured for the {@link DatabaseEngine} to fetch the rows in round trips of {@code DATABASE_FETCH_SIZE}
+	 * rows, instead of reading the whole result into memory. The statement is not taken from the {@link StatementCache}.
 	 * </p>
 	 *
-	 * @param ps the {@code PreparedStatement} in which to set the parameter.
-	 * @param index the zero-based index of the parameter to set.
-	 * @param parameter the value to set; may be {@code null}.
-	 * @throws DataAccessException if a {@link SQLException} occurs while setting the parameter.
+	 * @param sql the SQL query containing {@code ?} placeholders for parameters.
+	 * @param parameters the values to bind to the query in order.
+	 * @return the open cursor, which must be closed by the caller unless all its rows are read.
+	 * @throws DataAccessException if a database access error occurs or the statement is invalid.
+	 */
+	public QueryResult openQuery(String sql, Object... parameters) throws DataAccessException
+	{
+		return this.openQuery(sql, parameters, DatabaseConnection::bindRow);
+	}
+	
+	/**
+	 * Executes a query with named parameters, returning a cursor that streams its rows.
 	 *
-	 * @see PreparedStatement#setString(int, String)
-	 * @see PreparedStatement#setInt(int, int)
-	 * @see PreparedStatement#setObject(int, Object)
-	 * @see java.sql.Types
+	 * @param namedQuery The SQL string with named parameters (e.g., {@code SELECT * FROM events WHERE day = :day}).
+	 * @param valuesMap A map containing parameter names and their corresponding values.
+	 * @return the open cursor, which must be closed by the caller unless all its rows are read.
+	 * @throws DataAccessException If the SQL is invalid, a parameter is missing, or a database access error occurs.
+	 * @see #openQuery(String, Object...)
 	 */
-	public static void setParameterStatement(PreparedStatement ps, int index, Object parameter) throws DataAccessException
+	public QueryResult openNamedQuery(String namedQuery, Map<String, Object> valuesMap) throws DataAccessException
 	{
-		int i = index + 1;
+		NamedQuery query = NamedQuery.compile(namedQuery, this.getDatabaseEngine());
 		
-		try
+		return this.openQuery(query.getSQL(), valuesMap, query::bind);
+	}
+	
+	/**
+	 * Executes the given SQL query with positional parameters and maps its rows to the given record or bean type.
+	 * <p>
+	 * The rows are streamed as in {@link #openQuery(String, Object...)} and mapped by the {@link RowMapper} compiled
+	 * once for the schema of the result and the type, binding columns to record components or setters by name.
+	 * </p>
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param type The public record or bean class to map the rows to.
+	 * @param sql the SQL query containing {@code ?} placeholders for parameters.
+	 * @param parameters the values to bind to the query in order.
+	 * @return the mapped rows.
+	 * @throws DataAccessException if a database access error occurs, or the rows cannot be mapped to the type.
+	 */
+	public <T> List<T> queryForList(Class<T> type, String sql, Object... parameters) throws DataAccessException
+	{
+		try(QueryResult result = this.openQuery(sql, parameters))
 		{
-			if(parameter instanceof String)
-			{
-				ps.setString(i, (String)parameter);
-			}
-			else if(parameter instanceof Short)
-			{
-				ps.setShort(i, (Short)parameter);
-			}
-			else if(parameter instanceof Integer)
-			{
-				ps.setInt(i, (Integer)parameter);
-			}
-			else if(parameter instanceof Long)
-			{
-				ps.setLong(i, (Long)parameter);
-			}
-			else if(parameter instanceof Float)
-			{
-				ps.setFloat(i, (Float)parameter);
-			}
-			else if(parameter instanceof Double)
-			{
-				ps.setDouble(i, (Double)parameter);
-			}
-			else if(parameter instanceof BigDecimal)
-			{
-				ps.setBigDecimal(i, (BigDecimal)parameter);
-			}
-			else if(parameter instanceof java.sql.Date)
-			{
-				ps.setDate(i, (java.sql.Date)parameter);
-			}
-			else if(parameter instanceof java.sql.Time)
-			{
-				ps.setTime(i, (java.sql.Time)parameter);
-			}
-			else if(parameter instanceof java.sql.Timestamp)
-			{
-				ps.setTimestamp(i, (java.sql.Timestamp)parameter);
-			}
-			else if(parameter instanceof java.util.Date)
-			{
-				java.util.Date fecha = (java.util.Date)parameter;
-				java.sql.Timestamp sqlTimeStamp = new java.sql.Timestamp(fecha.getTime());
-				ps.setTimestamp(i, sqlTimeStamp);
-			}
-			else if(parameter instanceof byte[])
-			{
-				ps.setBytes(i, (byte[])parameter);
-			}
-			else if(parameter instanceof Boolean)
-			{
-				ps.setBoolean(i, (Boolean)parameter);
-			}
-			else
-			{
-				ps.setObject(i, parameter);
-			}
+			return result.list(type);
 		}
-		catch (SQLException e)
+	}
+	
+	/**
+	 * Executes a query with named parameters and maps its rows to the given record or bean type.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param type The public record or bean class to map the rows to.
+	 * @param namedQuery The SQL string with named parameters (e.g., {@code SELECT * FROM events WHERE day = :day}).
+	 * @param valuesMap A map containing parameter names and their corresponding values.
+	 * @return the mapped rows.
+	 * @throws DataAccessException If the SQL is invalid, a parameter is missing, a database access error occurs,
+	 * or the rows cannot be mapped to the type.
+	 * @see #queryForList(Class, String, Object...)
+	 */
+	public <T> List<T> namedQueryForList(Class<T> type, String namedQuery, Map<String, Object> valuesMap) throws DataAccessException
+	{
+		try(QueryResult result = this.openNamedQuery(namedQuery, valuesMap))
 		{
-			String errorMessage = MessageUtil.getMessage(Messages.SETTING_STATEMENT_PARAMETER_ERROR, index);
-			
-			throw new DataAccessException(errorMessage, e);
+			return result.list(type);
 		}
 	}
 	
-	@Override
-	public boolean equals(Object obj)
+	/**
+	 * Executes the given SQL query with positional parameters and maps its rows with the given mapper,
+	 * like the ones generated for {@link GenerateMapper}.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param mapper The mapper of the rows.
+	 * @param sql the SQL query containing {@code ?} placeholders for parameters.
+	 * @param parameters the values to bind to the query in order.
+	 * @return the mapped rows.
+	 * @throws DataAccessException if a database access error occurs.
+	 * @see #queryForList(Class, String, Object...)
+	 */
+	public <T> List<T> queryForList(ResultSetMapper<T> mapper, String sql, Object... parameters) throws DataAccessException
 	{
-		if(this == obj)
+		try(QueryResult result = this.openQuery(sql, parameters))
 		{
-			return true;
+			return result.list(mapper);
 		}
+	}
+	
+	/**
+	 * Gets the engine of the configuration, or {@code null} if the connection is not configured yet.
+	 */
+	private DatabaseEngine getDatabaseEngine()
+	{
+		return this.configuration != null ? this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE) : null;
+	}
+	
+	private <T> QueryResult openQuery(String sql, T values, RowBinder<T> binder) throws DataAccessException
+	{
+		this.assertConfigured();
+		this.assertConnected();
 		
-		if(obj == null || !obj.getClass().equals(this.getClass()))
-		{
-			return false;
-		}
+		DatabaseEngine dbEngine = this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE);
 		
-		DatabaseConnection other = (DatabaseConnection)obj;
+		boolean restoreAutoCommit = false;
 		
-		if(this.configuration == other.configuration)
+		if(dbEngine.requiresTransactionToStream() && this.autoCommit)
 		{
-			return true;
+			this.setAutoCommit(false);
+			
+			restoreAutoCommit = true;
 		}
 		
-		if(this.configuration == null || other.configuration == null)
-		{
-			return false;
-		}
+		this.transactionDirty = true;
 		
-		DatabaseEngine dbEngine = this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE);
-		String url = this.configuration.getValue(Values.VariableNames.DATABASE_URL);
-		String user = this.configuration.getValue(Values.VariableNames.DATABASE_USER_NAME);
+		PreparedStatement preparedStatement = null;
 		
-		DatabaseEngine otherDbEngine = other.configuration.getValue(Values.VariableNames.DATABASE_ENGINE);
-		String otherUrl = other.configuration.getValue(Values.VariableNames.DATABASE_URL);
-		String otherUser = other.configuration.getValue(Values.VariableNames.DATABASE_USER_NAME);
+		boolean completed = false;
 		
-		return Objects.equals(dbEngine, otherDbEngine)
-			    && Objects.equals(url, otherUrl)
-			    && Objects.equals(user, otherUser);
-	}
-	
-	@Override
-	public int hashCode()
-	{
-		if(this.configuration == null)
+		try
 		{
-			return 0;
-		}
-		
-		return Objects.hash
-		(
-			this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE),
+			preparedStatement = this.connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			
+			int fetchSize = getIntValue(this.configuration, Values.VariableNames.DATABASE_FETCH_SIZE, Values.Constants.STREAMING_FETCH_SIZE);
+			
+			preparedStatement.setFetchSize(dbEngine.toStreamingFetchSize(fetchSize));
+			
+			binder.bind(preparedStatement, 0, values);
+			
+			ResultSet resultSet = preparedStatement.executeQuery();
+			
+			completed = true;
+			
+			return new QueryResult(this, preparedStatement, resultSet, sql, restoreAutoCommit);
+		}
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		finally
+		{
+			if(!completed)
+			{
+				if(preparedStatement != null)
+				{
+					this.closeStatement(preparedStatement);
+				}
+				
+				if(restoreAutoCommit)
+				{
+					this.restoreAutoCommit();
+				}
+			}
+		}
+	}
+	
+	private void restoreAutoCommit()
+	{
+		try
+		{
+			this.setAutoCommit(true);
+		}
+		catch(DataAccessException e)
+		{
+			this.logger.warning(e);
+		}
+	}
+	
+	/**
+	 * Executes the given SQL DML statement once per row, sending the rows to the database in batches.
+	 *
+	 * @param sql the SQL statement to execute, containing {@code ?} placeholders for parameters.
+	 * @param rows the ordered parameters of each row.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException if a parameter cannot be bound or a database access error occurs.
+	 * @see #executeBatch(String, Iterable, BatchOptions)
+	 */
+	public BatchResult executeBatch(String sql, Iterable<Object[]> rows) throws DataAccessException
+	{
+		return this.executeBatch(sql, rows, new BatchOptions());
+	}
+	
+	/**
+	 * Executes the given SQL DML statement once per row using {@link PreparedStatement#addBatch()}
+	 * and {@link PreparedStatement#executeBatch()}.
+	 * <p>
+	 * The rows are consumed from the iterator as they are sent, one chunk at a time, so the input is never
+	 * materialized in memory and can be backed by a stream or a cursor. The statement is taken from the
+	 * {@link StatementCache}, unless generated keys are requested.
+	 * </p>
+	 * <p>
+	 * If a chunk fails, the error reports how many rows were sent successfully before it. Rows committed through
+	 * {@link BatchOptions#setCommitEvery(int)} stay committed, the rest of the transaction is left to the caller.
+	 * </p>
+	 *
+	 * @param sql the SQL statement to execute, containing {@code ?} placeholders for parameters.
+	 * @param rows the ordered parameters of each row.
+	 * @param options the chunk size, adaptive mode, multi-row insert, commit interval, update counts and generated keys options.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException if a parameter cannot be bound or a database access error occurs.
+	 */
+	public BatchResult executeBatch(String sql, Iterable<Object[]> rows, BatchOptions options) throws DataAccessException
+	{
+		return this.executeBoundBatch(sql, rows, DatabaseConnection::bindRow, options);
+	}
+	
+	/**
+	 * Executes a statement with named parameters once per row, sending the rows to the database in batches.
+	 *
+	 * @param namedQuery The SQL string with named parameters (e.g., {@code INSERT INTO users (id, name) VALUES (:id, :name)}).
+	 * @param rows A map of parameter names to values for each row.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException If a parameter is missing or a database access error occurs.
+	 * @see #executeNamedBatch(String, Iterable, BatchOptions)
+	 */
+	public BatchResult executeNamedBatch(String namedQuery, Iterable<Map<String, Object>> rows) throws DataAccessException
+	{
+		return this.executeNamedBatch(namedQuery, rows, new BatchOptions());
+	}
+	
+	/**
+	 * Executes a statement with named parameters once per row, sending the rows to the database in batches.
+	 * The query is compiled once into a {@link NamedQuery} and the values of each row are bound directly from its map.
+	 *
+	 * @param namedQuery The SQL string with named parameters (e.g., {@code INSERT INTO users (id, name) VALUES (:id, :name)}).
+	 * @param rows A map of parameter names to values for each row.
+	 * @param options the chunk size, multi-row insert, commit interval, update counts and generated keys options.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException If a parameter is missing or a database access error occurs.
+	 * @see #executeBatch(String, Iterable, BatchOptions)
+	 */
+	public BatchResult executeNamedBatch(String namedQuery, Iterable<Map<String, Object>> rows, BatchOptions options) throws DataAccessException
+	{
+		NamedQuery query = NamedQuery.compile(namedQuery, this.getDatabaseEngine());
+		
+		return this.executeBoundBatch(query.getSQL(), rows, query::bind, options);
+	}
+	
+	/**
+	 * Executes the given SQL DML statement once per instance, binding its properties with the given binder.
+	 *
+	 * @param <T> The type of the instances.
+	 * @param sql the SQL statement to execute, containing {@code ?} placeholders for parameters.
+	 * @param rows the instances to bind.
+	 * @param binder the binder of the parameters of each instance, like the ones generated for {@link GenerateMapper}.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException if a parameter cannot be bound or a database access error occurs.
+	 * @see #executeBatch(String, Iterable, ParameterBinder, BatchOptions)
+	 */
+	public <T> BatchResult executeBatch(String sql, Iterable<T> rows, ParameterBinder<? super T> binder) throws DataAccessException
+	{
+		return this.executeBatch(sql, rows, binder, new BatchOptions());
+	}
+	
+	/**
+	 * Executes the given SQL DML statement once per instance, binding its properties with the given binder,
+	 * in batches as in {@link #executeBatch(String, Iterable, BatchOptions)}.
+	 *
+	 * @param <T> The type of the instances.
+	 * @param sql the SQL statement to execute, containing {@code ?} placeholders for parameters.
+	 * @param rows the instances to bind.
+	 * @param binder the binder of the parameters of each instance, like the ones generated for {@link GenerateMapper}.
+	 * @param options the chunk size, adaptive mode, multi-row insert, commit interval, update counts and generated keys options.
+	 * @return the totals of the execution.
+	 * @throws DataAccessException if a parameter cannot be bound or a database access error occurs.
+	 */
+	public <T> BatchResult executeBatch(String sql, Iterable<T> rows, ParameterBinder<? super T> binder, BatchOptions options) throws DataAccessException
+	{
+		return this.executeBoundBatch(sql, rows, (preparedStatement, offset, row) ->
+		{
+			try
+			{
+				binder.bind(preparedStatement, offset, row);
+			}
+			catch(SQLException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.SETTING_STATEMENT_PARAMETER_ERROR, offset);
+				
+				throw new DataAccessException(errorMessage, e);
+			}
+		}, options);
+	}
+	
+	private static void bindRow(PreparedStatement preparedStatement, int offset, Object[] row) throws DataAccessException
+	{
+		for(int i = 0; i < row.length; i++)
+		{
+			setParameterStatement(preparedStatement, offset + i, row[i]);
+		}
+	}
+	
+	private <T> BatchResult executeBoundBatch(String sql, Iterable<T> rows, RowBinder<T> binder, BatchOptions options) throws DataAccessException
+	{
+		int chunkSize = options.getChunkSize();
+		
+		if(chunkSize == 0)
+		{
+			chunkSize = getIntValue(this.getConfiguration(), Values.VariableNames.DATABASE_BATCH_SIZE, Values.Defaults.DATABASE_BATCH_SIZE);
+		}
+		
+		chunkSize = Math.max(1, chunkSize);
+		
+		AdaptiveBatchSizer sizer = null;
+		
+		if(options.isAdaptive())
+		{
+			sizer = new AdaptiveBatchSizer(chunkSize, options.getMinChunkSize(), options.getMaxChunkSize());
+			
+			chunkSize = sizer.getSize();
+		}
+		
+		int commitEvery = options.getCommitEvery();
+		
+		GeneratedKeysConsumer keysConsumer = options.getGeneratedKeysConsumer();
+		
+		BatchResult result = new BatchResult(options.isCollectUpdateCounts());
+		
+		MultiRowInsert insert = null;
+		int rowsPerStatement = 1;
+		
+		if(options.isMultiRowInsert())
+		{
+			insert = MultiRowInsert.compile(sql, this.getConfiguration().getValue(Values.VariableNames.DATABASE_ENGINE));
+			rowsPerStatement = insert.getRowsPerStatement(chunkSize);
+			
+			if(rowsPerStatement == 1)
+			{
+				insert = null;
+			}
+		}
+		
+		String statementSQL = insert != null ? insert.getSQL(rowsPerStatement) : sql;
+		
+		PreparedStatement preparedStatement = this.prepareBatchStatement(statementSQL, keysConsumer, options);
+		
+		List<T> group = insert != null ? new ArrayList<>(rowsPerStatement) : null;
+		
+		boolean completed = false;
+		
+		try
+		{
+			int pending = 0;
+			long uncommitted = 0;
+			
+			for(T row : rows)
+			{
+				if(group == null)
+				{
+					binder.bind(preparedStatement, 0, row);
+				}
+				else
+				{
+					group.add(row);
+					
+					if(group.size() < rowsPerStatement)
+					{
+						continue;
+					}
+					
+					bindGroup(preparedStatement, group, binder, insert.getParameterCount());
+				}
+				
+				preparedStatement.addBatch();
+				
+				if(group != null)
+				{
+					group.clear();
+				}
+				
+				pending += rowsPerStatement;
+				
+				if(pending >= chunkSize)
+				{
+					long start = System.nanoTime();
+					
+					uncommitted += executeChunk(preparedStatement, result, keysConsumer, pending);
+					
+					if(sizer != null)
+					{
+						chunkSize = sizer.record(pending, System.nanoTime() - start);
+					}
+					
+					pending = 0;
+					
+					if(commitEvery > 0 && uncommitted >= commitEvery)
+					{
+						this.commitBatch(result);
+						
+						uncommitted = 0;
+					}
+				}
+			}
+			
+			if(pending > 0)
+			{
+				uncommitted += executeChunk(preparedStatement, result, keysConsumer, pending);
+			}
+			
+			if(group != null && !group.isEmpty())
+			{
+				uncommitted += this.executeRemainder(insert, group, binder, keysConsumer, options, result);
+			}
+			
+			if(commitEvery > 0 && uncommitted > 0)
+			{
+				this.commitBatch(result);
+			}
+			
+			result.setChunkSize(chunkSize, sizer != null ? sizer.getAdjustments() : 0);
+			
+			if(this.logger.isDebugging())
+			{
+				String debugMessage = MessageUtil.getMessage(Messages.BATCH_EXECUTED, result, sql);
+				
+				this.logger.debug(debugMessage);
+			}
+			
+			completed = true;
+			
+			return result;
+		}
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.BATCH_EXECUTION_ERROR, result.getRowCount(), sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		finally
+		{
+			this.finishBatchStatement(preparedStatement, keysConsumer, completed);
+		}
+	}
+	
+	/**
+	 * Binds the rows of a multi-row insert one after the other, each one after the parameters of the previous rows.
+	 */
+	private static <T> void bindGroup(PreparedStatement preparedStatement, List<T> group, RowBinder<T> binder, int parameterCount) throws DataAccessException
+	{
+		for(int i = 0; i < group.size(); i++)
+		{
+			binder.bind(preparedStatement, i * parameterCount, group.get(i));
+		}
+	}
+	
+	/**
+	 * Inserts the rows left over from the last full multi-row statement with a statement sized for them.
+	 */
+	private <T> int executeRemainder(MultiRowInsert insert, List<T> group, RowBinder<T> binder, GeneratedKeysConsumer keysConsumer, BatchOptions options, BatchResult result) throws SQLException, DataAccessException
+	{
+		PreparedStatement preparedStatement = this.prepareBatchStatement(insert.getSQL(group.size()), keysConsumer, options);
+		
+		boolean completed = false;
+		
+		try
+		{
+			bindGroup(preparedStatement, group, binder, insert.getParameterCount());
+			
+			preparedStatement.addBatch();
+			
+			int rows = executeChunk(preparedStatement, result, keysConsumer, group.size());
+			
+			completed = true;
+			
+			return rows;
+		}
+		finally
+		{
+			this.finishBatchStatement(preparedStatement, keysConsumer, completed);
+		}
+	}
+	
+	private static int executeChunk(PreparedStatement preparedStatement, BatchResult result, GeneratedKeysConsumer keysConsumer, int rows) throws SQLException, DataAccessException
+	{
+		long start = System.nanoTime();
+		
+		int[] counts = preparedStatement.executeBatch();
+		
+		result.addChunk(counts, rows, System.nanoTime() - start);
+		
+		if(keysConsumer != null)
+		{
+			try(ResultSet generatedKeys = preparedStatement.getGeneratedKeys())
+			{
+				keysConsumer.accept(generatedKeys);
+			}
+		}
+		
+		return rows;
+	}
+	
+	private void commitBatch(BatchResult result) throws DataAccessException
+	{
+		if(!this.autoCommit)
+		{
+			this.commit();
+			
+			result.addCommit();
+		}
+	}
+	
+	private PreparedStatement prepareBatchStatement(String sql, GeneratedKeysConsumer keysConsumer, BatchOptions options) throws DataAccessException
+	{
+		if(keysConsumer != null)
+		{
+			return this.prepareGeneratedKeysStatement(sql, options.getGeneratedKeyColumns());
+		}
+		
+		return this.acquireStatement(sql);
+	}
+	
+	private void finishBatchStatement(PreparedStatement preparedStatement, GeneratedKeysConsumer keysConsumer, boolean completed)
+	{
+		if(keysConsumer != null)
+		{
+			this.closeStatement(preparedStatement);
+		}
+		else
+		{
+			if(!completed)
+			{
+				this.clearBatch(preparedStatement);
+			}
+			
+			this.releaseStatement(preparedStatement, null);
+		}
+	}
+	
+	/**
+	 * Prepares an uncached statement returning the generated keys, for the given columns or the ones chosen by the driver.
+	 */
+	private PreparedStatement prepareGeneratedKeysStatement(String sql, String[] columnNames) throws DataAccessException
+	{
+		this.assertConfigured();
+		this.assertConnected();
+		
+		this.transactionDirty = true;
+		
+		try
+		{
+			if(columnNames != null)
+			{
+				return this.connection.prepareStatement(sql, columnNames);
+			}
+			
+			return this.connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+		}
+		catch(SQLException e)
+		{
+			this.suspect = true;
+			
+			String errorMessage = MessageUtil.getMessage(Messages.CREATING_PREPARED_STATEMENT_ERROR, sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	private void clearBatch(PreparedStatement preparedStatement)
+	{
+		try
+		{
+			preparedStatement.clearBatch();
+		}
+		catch(SQLException e)
+		{
+			this.logger.debug(e);
+		}
+	}
+	
+	private void closeStatement(Statement statement)
+	{
+		try
+		{
+			statement.close();
+		}
+		catch(SQLException e)
+		{
+			this.logger.warning(e);
+		}
+	}
+	
+	/**
+	 * Binds the values of one row of a batch to the statement, after the given number of parameters.
+	 */
+	@FunctionalInterface
+	private interface RowBinder<T>
+	{
+		void bind(PreparedStatement preparedStatement, int offset, T row) throws DataAccessException;
+	}
+	
+	/**
+	 * Sets a parameter value in the given {@link PreparedStatement}, inferring the correct setter method
+	 * based on the runtime type of the parameter.
+	 * <p>
+	 * This method delegates to the {@link ValueBinder} registered in {@link ValueBinders} for the exact class
+	 * of the parameter, which calls the typed {@code PreparedStatement.setXXX()} methods for standard types such as
+	 * {@link String}, numeric wrappers, {@link java.util.Date}, {@link java.sql.Date}, {@link java.sql.Timestamp},
+	 * {@code java.time} types, {@link java.util.UUID}, enums, {@code byte[]}, streams and {@link Boolean}.
+	 * Custom types can register their own binder. If the parameter type is not handled, it defaults to {@code setObject}.
+	 * </p>
+	 * <p>
+	 * The parameter index is zero-based for usability, but internally adjusted to JDBC's one-based index.
+	 * </p>
+	 *
+	 * @param ps the {@code PreparedStatement} in which to set the parameter.
+	 * @param index the zero-based index of the parameter to set.
+	 * @param parameter the value to set; may be {@code null}.
+	 * @throws DataAccessException if a {@link SQLException} occurs while setting the parameter.
+	 *
+	 * @see PreparedStatement#setString(int, String)
+	 * @see PreparedStatement#setInt(int, int)
+	 * @see PreparedStatement#setObject(int, Object)
+	 * @see java.sql.Types
+	 */
+	public static void setParameterStatement(PreparedStatement ps, int index, Object parameter) throws DataAccessException
+	{
+		try
+		{
+			ValueBinders.bind(ps, index + 1, parameter);
+		}
+		catch (SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.SETTING_STATEMENT_PARAMETER_ERROR, index);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj)
+		{
+			return true;
+		}
+		
+		if(obj == null || !obj.getClass().equals(this.getClass()))
+		{
+			return false;
+		}
+		
+		DatabaseConnection other = (DatabaseConnection)obj;
+		
+		if(this.configuration == other.configuration)
+		{
+			return true;
+		}
+		
+		if(this.configuration == null || other.configuration == null)
+		{
+			return false;
+		}
+		
+		DatabaseEngine dbEngine = this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE);
+		String url = this.configuration.getValue(Values.VariableNames.DATABASE_URL);
+		String user = this.configuration.getValue(Values.VariableNames.DATABASE_USER_NAME);
+		
+		DatabaseEngine otherDbEngine = other.configuration.getValue(Values.VariableNames.DATABASE_ENGINE);
+		String otherUrl = other.configuration.getValue(Values.VariableNames.DATABASE_URL);
+		String otherUser = other.configuration.getValue(Values.VariableNames.DATABASE_USER_NAME);
+		
+		return Objects.equals(dbEngine, otherDbEngine)
+			    && Objects.equals(url, otherUrl)
+			    && Objects.equals(user, otherUser);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		if(this.configuration == null)
+		{
+			return 0;
+		}
+		
+		return Objects.hash
+		(
+			this.configuration.getValue(Values.VariableNames.DATABASE_ENGINE),
 			this.configuration.getValue(Values.VariableNames.DATABASE_URL),
 			this.configuration.getValue(Values.VariableNames.DATABASE_USER_NAME)
 		);
@@ -1007,7 +2147,7 @@ public final class DatabaseConnection implements AutoCloseable
 	{
 		StringBuilder sb = new StringBuilder();
 		
-		boolean connected = this.isConnected();
+		boolean connected = this.isOpen();
 		
 		sb.append(this.getClass().getSimpleName());
 		sb.append(" [");
@@ -1032,7 +2172,7 @@ public final class DatabaseConnection implements AutoCloseable
 	{
 		StringBuilder sb = new StringBuilder();
 		
-		boolean connected = this.isConnected();
+		boolean connected = this.isOpen();
 		
 		sb.append(this.getClass().getSimpleName());
 		sb.append(" [");
@@ -1049,9 +2189,138 @@ public final class DatabaseConnection implements AutoCloseable
 		return sb.toString();
 	}
 	
+	/**
+	 * Returns whether this connection belongs to a {@link DatabaseConnectionPool}.
+	 *
+	 * @return {@code true} if the connection was obtained from a pool.
+	 */
+	public boolean isPooled()
+	{
+		return this.pool != null;
+	}
+	
+	/**
+	 * Marks this connection as leased from the given pool to the given key holder.
+	 */
+	void lease(DatabaseConnectionPool pool, Object key)
+	{
+		this.pool = pool;
+		this.leased.set(true);
+		
+		this.bindKey(key);
+	}
+	
+	/**
+	 * Records the registry slot of {@link DatabaseConnectionManager} this connection is bound to,
+	 * so the binding can be removed even after its weak key has been garbage collected.
+	 */
+	void bindSlot(DatabaseConnectionManager.ConnectionSlot slot)
+	{
+		this.slot = slot;
+	}
+	
+	/**
+	 * Gives the lease back to the owning pool, if this connection is currently leased.
+	 * The binding kept by {@link DatabaseConnectionManager} is removed first, so the registry never
+	 * references a connection already handed to another caller. Each lease is returned only once,
+	 * even if the owner and the registry sweeper release it concurrently.
+	 */
+	private void returnLease()
+	{
+		if(this.pool != null && this.leased.compareAndSet(true, false))
+		{
+			DatabaseConnectionManager.unbind(this.slot, this);
+			
+			this.slot = null;
+			
+			this.bindKey(null);
+			
+			this.pool.release(this);
+		}
+	}
+	
+	/**
+	 * Restores the state expected from an idle pooled connection: pending work is rolled back
+	 * and auto-commit is disabled.
+	 *
+	 * @return {@code true} if the connection can be reused, {@code false} if it must be discarded.
+	 */
+	boolean resetForPool()
+	{
+		if(!this.isConnected())
+		{
+			return false;
+		}
+		
+		try
+		{
+			if(this.transactionDirty)
+			{
+				this.autoCommit = this.connection.getAutoCommit();
+				
+				if(!this.autoCommit)
+				{
+					this.connection.rollback();
+				}
+			}
+			
+			if(this.autoCommit)
+			{
+				this.connection.setAutoCommit(false);
+				
+				this.autoCommit = false;
+			}
+			
+			this.transactionDirty = false;
+			
+			return true;
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.POOL_RESET_CONNECTION_ERROR);
+			
+			this.logger.warning(errorMessage, e);
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * Releases this connection the way its owner expects: leased connections are returned to
+	 * their pool, standalone connections are closed silently.
+	 */
+	void dispose()
+	{
+		if(this.pool != null)
+		{
+			this.returnLease();
+		}
+		else
+		{
+			this.silentClose();
+		}
+	}
+	
+	/**
+	 * Closes this connection.
+	 * <p>
+	 * If this connection is leased from a {@link DatabaseConnectionPool}, the lease is returned to the pool
+	 * and the physical connection is kept open for the next caller. The connection must not be used after
+	 * this method returns. Otherwise the physical connection is closed.
+	 *
+	 * @throws DataAccessException if an error occurs while closing a non pooled connection.
+	 * @see #closeConnection()
+	 */
 	@Override
 	public void close() throws DataAccessException
 	{
+		if(this.pool != null)
+		{
+			this.returnLease();
+			
+			return;
+		}
+		
 		this.closeConnection();
 	}
 }
\ No newline at end of file
@@ -1,12 +1,23 @@
 package py.com.semp.lib.database.connection;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import py.com.semp.lib.database.configuration.DatabaseConfiguration;
+import py.com.semp.lib.database.configuration.Values;
 import py.com.semp.lib.database.internal.MessageUtil;
 import py.com.semp.lib.database.internal.Messages;
 import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
 
 /**
  * Manages a pool of {@link DatabaseConnection} instances keyed by an identifier (e.g., thread or custom object).
@@ -14,11 +25,36 @@ import py.com.semp.lib.utilidades.exceptions.DataAccessException;
  *
  * <p>By default, connections are stored per thread. If needed, you can supply a custom key to manage them per user or session.</p>
  *
+ * <p>When {@code DATABASE_POOL_ENABLED} is set in the configuration, the connection bound to each key is leased from a
+ * {@link DatabaseConnectionPool} shared by all the keys using an equal configuration, and closing the key returns the lease
+ * to the pool instead of closing the physical connection.</p>
+ *
+ * <p>There is no global lock: looking up the connection of an already connected key is lock-free, and connection
+ * establishment is coordinated per key, so a slow or unreachable database never blocks other keys.</p>
+ *
+ * <p>Every acquire, connect and close path uses {@link ReentrantLock} instead of monitors, so blocking JDBC calls never pin
+ * the carrier of a virtual thread. When running on virtual threads, prefer {@link #withConnection(DatabaseConfiguration, ConnectionCallback)},
+ * which binds a pooled connection to a scope instead of to the thread.</p>
+ *
+ * <p>Keys are held weakly. When a key is garbage collected, or a {@link Thread} key terminates, without its connection
+ * being closed, a background sweeper closes the connection (or returns it to its pool) and counts it in
+ * {@link #getReclaimedConnectionCount()}.</p>
+ *
+ * <p>Connections bound to a key are never closed in the background while their key is alive. A connection that stayed
+ * unused longer than {@code CONNECTION_IDLE_TIMEOUT_SECONDS}, or exceeded {@code CONNECTION_MAX_LIFETIME_SECONDS}, is closed
+ * and re-established transparently by its owner the next time it is used. Connections with uncommitted work are kept
+ * open. Idle pooled connections are retired by the housekeeping of their pool.</p>
+ *
  * @author Sergio Morel
  */
 public final class DatabaseConnectionManager
 {
-	private static final Map<Object, DatabaseConnection> connectionsMap = new ConcurrentHashMap<>();
+	private static final Map<RegistryKey, ConnectionSlot> connectionsMap = new ConcurrentHashMap<>();
+	private static final ReferenceQueue<Object> collectedKeys = new ReferenceQueue<>();
+	private static final AtomicBoolean sweeperStarted = new AtomicBoolean();
+	private static final AtomicLong reclaimedConnections = new AtomicLong();
+	private static final Map<DatabaseConfiguration, DatabaseConnectionPool> poolsMap = new ConcurrentHashMap<>();
+	private static final ThreadLocal<ConnectionScope> currentScope = new ThreadLocal<>();
 	
 	private DatabaseConnectionManager()
 	{
@@ -29,6 +65,10 @@ public final class DatabaseConnectionManager
 	
 	/**
 	 * Returns the default key used to associate a connection with the current thread.
+	 * <p>
+	 * Thread keys bind one connection per thread. With large numbers of short lived threads (e.g., virtual threads)
+	 * enable the connection pool or use {@link #withConnection(DatabaseConfiguration, ConnectionCallback)} so the number
+	 * of physical connections stays bounded.
 	 */
 	public static Object getDefaultKey()
 	{
@@ -71,13 +111,19 @@ public final class DatabaseConnectionManager
 	/**
 	 * Gets or creates a connection associated with the given key.
 	 * If a connection exists and the configuration differs, it is replaced.
+	 * <p>
+	 * If the configuration enables the connection pool, the connection is leased from the pool
+	 * returned by {@link #getPool(DatabaseConfiguration)}.
+	 * <p>
+	 * A key that is already bound to a connected instance with the same configuration is served without locking.
+	 * Otherwise only callers using the same key are serialized while the connection is established.
 	 *
 	 * @param key The key used to retrieve the connection.
 	 * @param configuration The database configuration to use if a new connection is needed.
 	 * @return A connected {@link DatabaseConnection} instance.
 	 * @throws DataAccessException If connection fails.
 	 */
-	public static synchronized DatabaseConnection getConnection(Object key, DatabaseConfiguration configuration) throws DataAccessException
+	public static DatabaseConnection getConnection(Object key, DatabaseConfiguration configuration) throws DataAccessException
 	{
 		if(key == null)
 		{
@@ -97,31 +143,278 @@ public final class DatabaseConnectionManager
 			throw new NullPointerException(errorMessage);
 		}
 		
-		DatabaseConnection current = connectionsMap.get(key);
+		StrongKey lookupKey = new StrongKey(key);
+		
+		ConnectionSlot slot = connectionsMap.get(lookupKey);
+		
+		if(slot != null)
+		{
+			DatabaseConnection current = slot.connection;
+			
+			if(current != null && current.isConnected() && configuration.equals(current.getConfiguration()))
+			{
+				return current;
+			}
+		}
+		
+		startSweeper();
+		
+		while(true)
+		{
+			slot = connectionsMap.get(lookupKey);
+			
+			if(slot == null)
+			{
+				ConnectionSlot created = new ConnectionSlot(new WeakKey(key, collectedKeys));
+				
+				slot = connectionsMap.putIfAbsent(created.key, created);
+				
+				if(slot == null)
+				{
+					slot = created;
+				}
+			}
+			
+			slot.lock.lock();
+			
+			try
+			{
+				// The slot was closed while waiting for its lock
+				if(connectionsMap.get(lookupKey) != slot)
+				{
+					continue;
+				}
+				
+				return getConnection(slot, key, configuration);
+			}
+			finally
+			{
+				slot.lock.unlock();
+			}
+		}
+	}
+	
+	/**
+	 * Gets or creates the connection of a slot. Must be called holding the slot lock.
+	 */
+	private static DatabaseConnection getConnection(ConnectionSlot slot, Object key, DatabaseConfiguration configuration) throws DataAccessException
+	{
+		DatabaseConnection current = slot.connection;
 		
 		if(current != null && configuration.equals(current.getConfiguration()))
 		{
-			if(!current.isConnected())
+			if(current.isConnected())
 			{
-				current.connect();
+				return current;
 			}
 			
-			return current;
+			if(!current.isPooled())
+			{
+				current.reconnect();
+				
+				return current;
+			}
 		}
 		
-		// Replace if configuration changed or new
+		// Replace if configuration changed, new or a pooled connection was lost
 		if(current != null)
 		{
-			current.silentClose();
+			slot.connection = null;
+			
+			current.dispose();
 		}
 		
-		DatabaseConnection connection = new DatabaseConnection(key, configuration);
+		try
+		{
+			DatabaseConnection connection;
+			
+			if(isPoolEnabled(configuration))
+			{
+				connection = getPool(configuration).acquire(key);
+			}
+			else
+			{
+				connection = new DatabaseConnection(null, configuration);
+				
+				connection.bindKey(key);
+				
+				connection.connect();
+			}
+			
+			connection.bindSlot(slot);
+			
+			slot.connection = connection;
+			
+			return connection;
+		}
+		finally
+		{
+			if(slot.connection == null)
+			{
+				connectionsMap.remove(new StrongKey(key), slot);
+			}
+		}
+	}
+	
+	/**
+	 * Executes the callback with a connection bound to the scope of the call rather than to the thread.
+	 * <p>
+	 * The connection is leased from the pool returned by {@link #getPool(DatabaseConfiguration)}, regardless of
+	 * {@code DATABASE_POOL_ENABLED}, and returned to the pool when the callback completes. Nested calls with an
+	 * equal configuration reuse the connection of the enclosing scope, so nesting never waits on the pool for
+	 * a second lease. The binding is removed when the scope exits, which keeps the number of physical connections
+	 * bounded by the pool size even with millions of virtual threads.
+	 *
+	 * @param <T> The type of the result.
+	 * @param configuration The database configuration of the pool.
+	 * @param callback The work to execute.
+	 * @return the result of the callback.
+	 * @throws DataAccessException If no connection can be leased or the callback fails.
+	 */
+	public static <T> T withConnection(DatabaseConfiguration configuration, ConnectionCallback<T> callback) throws DataAccessException
+	{
+		Objects.requireNonNull(callback, "callback");
+		
+		ConnectionScope outer = currentScope.get();
 		
-		connection.connect();
+		for(ConnectionScope scope = outer; scope != null; scope = scope.parent)
+		{
+			if(scope.configuration.equals(configuration))
+			{
+				return callback.execute(scope.connection);
+			}
+		}
 		
-		connectionsMap.put(key, connection);
+		DatabaseConnection connection = getPool(configuration).acquire();
 		
-		return connection;
+		currentScope.set(new ConnectionScope(configuration, connection, outer));
+		
+		try
+		{
+			return callback.execute(connection);
+		}
+		finally
+		{
+			if(outer == null)
+			{
+				currentScope.remove();
+			}
+			else
+			{
+				currentScope.set(outer);
+			}
+			
+			connection.dispose();
+		}
+	}
+	
+	/**
+	 * Returns whether the given configuration enables the connection pool.
+	 *
+	 * @param configuration The database configuration.
+	 * @return {@code true} if {@code DATABASE_POOL_ENABLED} is set to {@code true}.
+	 */
+	public static boolean isPoolEnabled(DatabaseConfiguration configuration)
+	{
+		if(configuration == null)
+		{
+			return false;
+		}
+		
+		Boolean poolEnabled = configuration.getValue(Values.VariableNames.DATABASE_POOL_ENABLED);
+		
+		return Boolean.TRUE.equals(poolEnabled);
+	}
+	
+	/**
+	 * Gets or creates the {@link DatabaseConnectionPool} shared by all the connections using the given configuration.
+	 * <p>
+	 * A newly created pool is filled up to {@code DATABASE_POOL_MIN_IDLE} connections before being returned.
+	 * A pool that was closed is replaced by a new one.
+	 *
+	 * @param configuration The database configuration of the pool.
+	 * @return the pool for the configuration.
+	 * @throws DataAccessException If the configuration is null or invalid.
+	 */
+	public static DatabaseConnectionPool getPool(DatabaseConfiguration configuration) throws DataAccessException
+	{
+		if(configuration == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_CONFIGURATION_ERROR, configuration);
+			
+			throw new DataAccessException(errorMessage);
+		}
+		
+		DatabaseConnectionPool pool = poolsMap.get(configuration);
+		
+		while(pool == null || pool.isClosed())
+		{
+			DatabaseConnectionPool created = new DatabaseConnectionPool(configuration);
+			
+			boolean installed = pool == null ? poolsMap.putIfAbsent(configuration, created) == null : poolsMap.replace(configuration, pool, created);
+			
+			if(installed)
+			{
+				created.ensureMinIdle();
+				
+				return created;
+			}
+			
+			// Lost the race: cancel the housekeeping the discarded pool already scheduled
+			created.close();
+			
+			pool = poolsMap.get(configuration);
+		}
+		
+		return pool;
+	}
+	
+	/**
+	 * Pre-establishes connections for the given configuration, typically at application start-up,
+	 * so the first requests do not pay the connection cost.
+	 * <p>
+	 * Connections are opened in parallel in the pool of the configuration and the statements registered with
+	 * {@link DatabaseConnectionPool#addWarmUpStatement(String)} are prepared on each of them.
+	 * The warmed up connections are only handed out by {@link #getConnection(Object, DatabaseConfiguration)}
+	 * when {@code DATABASE_POOL_ENABLED} is set, otherwise they serve {@link DatabaseConnectionPool#acquire()}.
+	 *
+	 * @param configuration The database configuration of the pool.
+	 * @param connections The number of connections the pool should hold.
+	 * @return the time spent warming up the pool.
+	 * @throws DataAccessException If the configuration is invalid or some connections could not be established.
+	 * @see DatabaseConnectionPool#warmUp(int)
+	 */
+	public static Duration warmUp(DatabaseConfiguration configuration, int connections) throws DataAccessException
+	{
+		return getPool(configuration).warmUp(connections);
+	}
+	
+	/**
+	 * Removes the binding of a connection from its slot, if the slot is still bound to it.
+	 * The slot is matched by identity, so it is found even after its weak key has been garbage collected.
+	 */
+	static void unbind(ConnectionSlot slot, DatabaseConnection connection)
+	{
+		if(slot == null)
+		{
+			return;
+		}
+		
+		slot.lock.lock();
+		
+		try
+		{
+			if(slot.connection == connection)
+			{
+				slot.connection = null;
+				
+				connectionsMap.remove(slot.key, slot);
+			}
+		}
+		finally
+		{
+			slot.lock.unlock();
+		}
 	}
 	
 	/**
@@ -134,35 +427,125 @@ public final class DatabaseConnectionManager
 	
 	/**
 	 * Closes and removes the connection associated with the given key.
+	 * Pooled connections are returned to their pool instead of being closed.
 	 */
 	public static void closeConnection(Object key)
 	{
 		if(key == null) return;
 		
-		DatabaseConnection connection = connectionsMap.remove(key);
+		closeSlot(connectionsMap.remove(new StrongKey(key)));
+	}
+	
+	/**
+	 * Detaches the connection of a removed slot and releases it.
+	 *
+	 * @return {@code true} if the slot held a connection.
+	 */
+	private static boolean closeSlot(ConnectionSlot slot)
+	{
+		if(slot == null)
+		{
+			return false;
+		}
+		
+		DatabaseConnection connection;
 		
-		if(connection != null)
+		slot.lock.lock();
+		
+		try
 		{
-			connection.silentClose();
+			connection = slot.connection;
+			
+			slot.connection = null;
 		}
+		finally
+		{
+			slot.lock.unlock();
+		}
+		
+		if(connection == null)
+		{
+			return false;
+		}
+		
+		connection.dispose();
+		
+		return true;
 	}
 	
 	/**
-	 * Closes and removes all tracked connections.
+	 * Starts the background sweeper the first time a key is registered.
 	 */
-	public static void closeAllConnections()
+	private static void startSweeper()
 	{
-		for(Map.Entry<Object, DatabaseConnection> entry : connectionsMap.entrySet())
+		if(!sweeperStarted.get() && sweeperStarted.compareAndSet(false, true))
 		{
-			DatabaseConnection connection = entry.getValue();
+			ConnectionHousekeeper.schedule(DatabaseConnectionManager::sweep, Values.Constants.REGISTRY_SWEEP_INTERVAL_MILLIS);
+		}
+	}
+	
+	/**
+	 * Reclaims the connections whose key has been garbage collected or whose {@link Thread} key has terminated.
+	 */
+	static void sweep()
+	{
+		Reference<?> reference;
+		
+		while((reference = collectedKeys.poll()) != null)
+		{
+			reclaim(reference, connectionsMap.remove(reference));
+		}
+		
+		for(Map.Entry<RegistryKey, ConnectionSlot> entry : connectionsMap.entrySet())
+		{
+			Object key = entry.getKey().getKey();
 			
-			if(connection != null)
+			if(key instanceof Thread && ((Thread)key).getState() == Thread.State.TERMINATED)
+			{
+				if(connectionsMap.remove(entry.getKey(), entry.getValue()))
+				{
+					reclaim(key, entry.getValue());
+				}
+			}
+		}
+	}
+	
+	private static void reclaim(Object owner, ConnectionSlot slot)
+	{
+		if(closeSlot(slot))
+		{
+			reclaimedConnections.incrementAndGet();
+			
+			Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+			
+			if(logger.isDebugging())
 			{
-				connection.silentClose();
+				String debugMessage = MessageUtil.getMessage(Messages.CONNECTION_RECLAIMED, owner);
+				
+				logger.debug(debugMessage);
 			}
 		}
+	}
+	
+	/**
+	 * Closes and removes all tracked connections, then closes every connection pool.
+	 */
+	public static void closeAllConnections()
+	{
+		for(RegistryKey key : connectionsMap.keySet())
+		{
+			closeSlot(connectionsMap.remove(key));
+		}
 		
-		connectionsMap.clear();
+		for(Map.Entry<DatabaseConfiguration, DatabaseConnectionPool> entry : poolsMap.entrySet())
+		{
+			DatabaseConnectionPool pool = entry.getValue();
+			
+			if(poolsMap.remove(entry.getKey(), pool))
+			{
+				pool.close();
+			}
+		}
 	}
 	
 	/**
@@ -170,7 +553,26 @@ public final class DatabaseConnectionManager
 	 */
 	public static int getConnectionCount()
 	{
-		return connectionsMap.size();
+		int count = 0;
+		
+		for(ConnectionSlot slot : connectionsMap.values())
+		{
+			if(slot.connection != null)
+			{
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Gets the number of connections closed or returned to their pool by the background sweeper
+	 * because their key was garbage collected or their thread terminated.
+	 */
+	public static long getReclaimedConnectionCount()
+	{
+		return reclaimedConnections.get();
 	}
 	
 	/**
@@ -193,13 +595,148 @@ public final class DatabaseConnectionManager
 	{
 		StringBuilder sb = new StringBuilder();
 		
-		for(Map.Entry<Object, DatabaseConnection> entry : connectionsMap.entrySet())
+		for(Map.Entry<RegistryKey, ConnectionSlot> entry : connectionsMap.entrySet())
 		{
-			sb.append(entry.getKey()).append(" -> ").append(entry.getValue()).append("\n");
+			DatabaseConnection connection = entry.getValue().connection;
+			
+			if(connection != null)
+			{
+				sb.append(entry.getKey().getKey()).append(" -> ").append(connection).append("\n");
+			}
 		}
 		
 		sb.append("Total: ").append(getConnectionCount());
 		
 		return sb.toString();
 	}
+	
+	/**
+	 * Holds the connection bound to a key together with the lock that serializes its establishment,
+	 * and the registered key the slot was installed with.
+	 */
+	static final class ConnectionSlot
+	{
+		private final ReentrantLock lock = new ReentrantLock();
+		private final RegistryKey key;
+		private volatile DatabaseConnection connection;
+		
+		private ConnectionSlot(RegistryKey key)
+		{
+			this.key = key;
+		}
+	}
+	
+	/**
+	 * Key of the connection registry. Registered keys are {@link WeakKey} instances, lookups use
+	 * {@link StrongKey} instances; both compare their referents with {@code equals}.
+	 */
+	private interface RegistryKey
+	{
+		Object getKey();
+	}
+	
+	/**
+	 * Registered key holding its referent weakly. Once cleared it is only equal to itself,
+	 * so it can still be used to remove its own entry.
+	 */
+	private static final class WeakKey extends WeakReference<Object> implements RegistryKey
+	{
+		private final int hash;
+		
+		private WeakKey(Object key, ReferenceQueue<Object> queue)
+		{
+			super(key, queue);
+			
+			this.hash = key.hashCode();
+		}
+		
+		@Override
+		public Object getKey()
+		{
+			return this.get();
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return this.hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(this == obj)
+			{
+				return true;
+			}
+			
+			if(!(obj instanceof RegistryKey))
+			{
+				return false;
+			}
+			
+			Object key = this.get();
+			
+			return key != null && key.equals(((RegistryKey)obj).getKey());
+		}
+	}
+	
+	/**
+	 * Short lived key used to look up the registry without creating references.
+	 */
+	private static final class StrongKey implements RegistryKey
+	{
+		private final Object key;
+		
+		private StrongKey(Object key)
+		{
+			this.key = key;
+		}
+		
+		@Override
+		public Object getKey()
+		{
+			return this.key;
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return this.key.hashCode();
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(this == obj)
+			{
+				return true;
+			}
+			
+			if(!(obj instanceof RegistryKey))
+			{
+				return false;
+			}
+			
+			return this.key.equals(((RegistryKey)obj).getKey());
+		}
+	}
+	
+	/**
+	 * A connection bound by {@link DatabaseConnectionManager#withConnection(DatabaseConfiguration, ConnectionCallback)},
+	 * linked to the scope enclosing it.
+	 */
+	private static final class ConnectionScope
+	{
+		private final DatabaseConfiguration configuration;
+		private final DatabaseConnection connection;
+		private final ConnectionScope parent;
+		
+		private ConnectionScope(DatabaseConfiguration configuration, DatabaseConnection connection, ConnectionScope parent)
+		{
+			this.configuration = configuration;
+			this.connection = connection;
+			this.parent = parent;
+		}
+	}
 }
@@ -0,0 +1,883 @@
+package py.com.semp.lib.database.connection;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import py.com.semp.lib.database.configuration.DatabaseConfiguration;
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+
+/**
+ * A bounded pool of {@link DatabaseConnection} instances sharing a single {@link DatabaseConfiguration}.
+ *
+ * <p>
+ * Connections are handed out as leases by {@link #acquire()} and given back by calling
+ * {@link DatabaseConnection#close()} on the leased connection, which keeps the physical connection
+ * open for the next caller instead of tearing it down.
+ * </p>
+ *
+ * <h2>Limits</h2>
+ * <ul>
+ *   <li>{@code DATABASE_POOL_MAX_SIZE}: maximum number of physical connections.</li>
+ *   <li>{@code DATABASE_POOL_MIN_IDLE}: number of idle connections kept open by {@link #ensureMinIdle()}.</li>
+ *   <li>{@code DATABASE_POOL_MAX_WAITERS}: maximum number of callers waiting for a connection, further callers fail fast.</li>
+ *   <li>{@code DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS}: maximum time a caller waits for a connection.</li>
+ * </ul>
+ *
+ * <p>
+ * Physical connections are always established outside of the pool lock, so a slow handshake
+ * never blocks callers that can be served from the idle connections.
+ * </p>
+ *
+ * <h2>Housekeeping</h2>
+ * <p>
+ * Every {@code HOUSEKEEPING_INTERVAL_SECONDS} the shared housekeeping thread closes idle connections unused for
+ * longer than {@code CONNECTION_IDLE_TIMEOUT_SECONDS} (never going below the minimum idle) and retires idle
+ * connections older than {@code CONNECTION_MAX_LIFETIME_SECONDS}, replacing them ahead of time when
+ * {@code DATABASE_POOL_REPLACE_EXPIRED} is enabled. Leased connections past their lifetime are retired when returned.
+ * Replacements and connections restoring the minimum idle are opened on a separate opener thread, so an unreachable
+ * database never stalls the housekeeping of other pools. The request path therefore never has to discover a connection killed by the server or a firewall.
+ * </p>
+ *
+ * <h2>Warm-up</h2>
+ * <p>
+ * {@link #warmUp(int)} opens connections in parallel ahead of the first request, preparing on each of them
+ * the statements registered with {@link #addWarmUpStatement(String)}, so the latency right after start-up
+ * matches the steady state. Replacement connections opened in the background are prepared the same way.
+ * </p>
+ *
+ * @author Sergio Morel
+ * @see DatabaseConnectionManager#getPool(DatabaseConfiguration)
+ */
+public final class DatabaseConnectionPool implements AutoCloseable
+{
+	private final DatabaseConfiguration configuration;
+	private final int minIdle;
+	private final int maxSize;
+	private final int maxWaiters;
+	private final long acquireTimeoutMillis;
+	private final boolean replaceExpired;
+	private final Logger logger;
+	private final ScheduledFuture<?> housekeeping;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition available = this.lock.newCondition();
+	private final Deque<DatabaseConnection> idleConnections = new ArrayDeque<>();
+	private final List<String> warmUpStatements = new CopyOnWriteArrayList<>();
+	private final AtomicInteger pendingReplacements = new AtomicInteger();
+	private final AtomicBoolean replenishing = new AtomicBoolean();
+	
+	private int totalConnections;
+	private int leasedConnections;
+	private int waitingThreads;
+	private boolean closed;
+	
+	/**
+	 * Creates a new pool for the given configuration.
+	 *
+	 * <p>
+	 * No connection is established until {@link #acquire()} or {@link #ensureMinIdle()} is called.
+	 * </p>
+	 *
+	 * @param configuration The database configuration used by every connection of the pool.
+	 * @throws DataAccessException If the configuration is null or missing required parameters.
+	 */
+	public DatabaseConnectionPool(DatabaseConfiguration configuration) throws DataAccessException
+	{
+		super();
+		
+		if(configuration == null || !configuration.checkRequiredParameters())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.INVALID_CONFIGURATION_ERROR, configuration);
+			
+			throw new DataAccessException(errorMessage);
+		}
+		
+		this.configuration = configuration;
+		this.minIdle = getIntValue(configuration, Values.VariableNames.DATABASE_POOL_MIN_IDLE, Values.Defaults.DATABASE_POOL_MIN_IDLE);
+		this.maxSize = Math.max(1, getIntValue(configuration, Values.VariableNames.DATABASE_POOL_MAX_SIZE, Values.Defaults.DATABASE_POOL_MAX_SIZE));
+		this.maxWaiters = getIntValue(configuration, Values.VariableNames.DATABASE_POOL_MAX_WAITERS, Values.Defaults.DATABASE_POOL_MAX_WAITERS);
+		this.acquireTimeoutMillis = getIntValue(configuration, Values.VariableNames.DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS, Values.Defaults.DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS);
+		this.logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+		
+		Boolean replaceExpired = configuration.getValue(Values.VariableNames.DATABASE_POOL_REPLACE_EXPIRED);
+		
+		this.replaceExpired = replaceExpired != null ? replaceExpired : Values.Defaults.DATABASE_POOL_REPLACE_EXPIRED;
+		
+		int housekeepingInterval = Math.max(1, getIntValue(configuration, Values.VariableNames.HOUSEKEEPING_INTERVAL_SECONDS, Values.Defaults.HOUSEKEEPING_INTERVAL_SECONDS));
+		
+		this.housekeeping = ConnectionHousekeeper.schedule(this::evictConnections, TimeUnit.SECONDS.toMillis(housekeepingInterval));
+	}
+	
+	private static int getIntValue(DatabaseConfiguration configuration, String name, Integer defaultValue)
+	{
+		Integer value = configuration.getValue(name);
+		
+		return value != null ? value : defaultValue;
+	}
+	
+	/**
+	 * Returns the configuration shared by all the connections of this pool.
+	 *
+	 * @return the pool configuration.
+	 */
+	public DatabaseConfiguration getConfiguration()
+	{
+		return this.configuration;
+	}
+	
+	/**
+	 * Leases a connection from the pool without an associated key.
+	 *
+	 * @return a connected {@link DatabaseConnection} that must be returned by calling {@link DatabaseConnection#close()}.
+	 * @throws DataAccessException If the pool is closed, the wait queue is full, the acquisition times out
+	 *                             or a new connection cannot be established.
+	 * @see #acquire(Object)
+	 */
+	public DatabaseConnection acquire() throws DataAccessException
+	{
+		return this.acquire(null);
+	}
+	
+	/**
+	 * Leases a connection from the pool and associates it with the given key.
+	 *
+	 * <p>
+	 * Idle connections are reused in LIFO order so the most recently used sockets stay hot.
+	 * When no idle connection is available and the pool has not reached its maximum size, a new
+	 * physical connection is established outside the pool lock. Otherwise the caller waits up to
+	 * {@code DATABASE_POOL_ACQUIRE_TIMEOUT_MILLIS} for a connection to be returned.
+	 * </p>
+	 *
+	 * @param key The key identifying the lease holder, may be {@code null}.
+	 * @return a connected {@link DatabaseConnection} that must be returned by calling {@link DatabaseConnection#close()}.
+	 * @throws DataAccessException If the pool is closed, the wait queue is full, the acquisition times out
+	 *                             or a new connection cannot be established.
+	 */
+	public DatabaseConnection acquire(Object key) throws DataAccessException
+	{
+		long remainingNanos = TimeUnit.MILLISECONDS.toNanos(this.acquireTimeoutMillis);
+		
+		while(true)
+		{
+			DatabaseConnection connection = null;
+			
+			this.lock.lock();
+			
+			try
+			{
+				while(true)
+				{
+					this.assertOpen();
+					
+					connection = this.idleConnections.pollFirst();
+					
+					if(connection != null)
+					{
+						break;
+					}
+					
+					if(this.totalConnections < this.maxSize)
+					{
+						this.totalConnections++;
+						
+						break;
+					}
+					
+					if(this.waitingThreads >= this.maxWaiters)
+					{
+						String errorMessage = MessageUtil.getMessage(Messages.POOL_WAIT_QUEUE_FULL_ERROR, this.waitingThreads, this);
+						
+						throw new DataAccessException(errorMessage);
+					}
+					
+					if(remainingNanos <= 0L)
+					{
+						String errorMessage = MessageUtil.getMessage(Messages.POOL_ACQUIRE_TIMEOUT_ERROR, this.acquireTimeoutMillis, this);
+						
+						throw new DataAccessException(errorMessage);
+					}
+					
+					this.waitingThreads++;
+					
+					try
+					{
+						remainingNanos = this.available.awaitNanos(remainingNanos);
+					}
+					catch(InterruptedException e)
+					{
+						Thread.currentThread().interrupt();
+						
+						String errorMessage = MessageUtil.getMessage(Messages.POOL_INTERRUPTED_ERROR);
+						
+						throw new DataAccessException(errorMessage, e);
+					}
+					finally
+					{
+						this.waitingThreads--;
+					}
+				}
+				
+				this.leasedConnections++;
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			if(connection == null)
+			{
+				connection = this.createConnection(key);
+			}
+			else if(!connection.isConnected())
+			{
+				this.discard(connection);
+				
+				continue;
+			}
+			
+			connection.lease(this, key);
+			
+			return connection;
+		}
+	}
+	
+	/**
+	 * Establishes a new physical connection for a slot already reserved in {@code totalConnections}.
+	 * The reservation is undone if the connection attempt fails.
+	 */
+	private DatabaseConnection createConnection(Object key) throws DataAccessException
+	{
+		try
+		{
+			DatabaseConnection connection = new DatabaseConnection(key, this.configuration, this.logger);
+			
+			connection.connect();
+			
+			return connection;
+		}
+		catch(DataAccessException | RuntimeException e)
+		{
+			this.lock.lock();
+			
+			try
+			{
+				this.totalConnections--;
+				this.leasedConnections--;
+				
+				this.available.signal();
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Returns a leased connection to the pool.
+	 *
+	 * <p>
+	 * Pending work is rolled back and the auto-commit mode restored before the connection becomes
+	 * available again. Connections that cannot be reset, are no longer connected or are returned
+	 * after the pool was closed are physically closed.
+	 * </p>
+	 *
+	 * @param connection The connection being returned.
+	 */
+	void release(DatabaseConnection connection)
+	{
+		boolean reusable = connection.resetForPool();
+		
+		this.lock.lock();
+		
+		try
+		{
+			this.leasedConnections--;
+			
+			if(reusable && !this.closed && !connection.isExpired(System.nanoTime()))
+			{
+				this.idleConnections.addFirst(connection);
+				
+				this.available.signal();
+				
+				return;
+			}
+			
+			this.totalConnections--;
+			
+			this.available.signal();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		connection.silentClose();
+	}
+	
+	/**
+	 * Physically closes an idle connection that turned out to be unusable and frees its slot.
+	 */
+	private void discard(DatabaseConnection connection)
+	{
+		this.lock.lock();
+		
+		try
+		{
+			this.leasedConnections--;
+			this.totalConnections--;
+			
+			this.available.signal();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		connection.silentClose();
+	}
+	
+	/**
+	 * Opens idle connections until the pool holds at least {@code DATABASE_POOL_MIN_IDLE} connections.
+	 *
+	 * <p>
+	 * Connection failures are logged as warnings and do not propagate, so a database that is down
+	 * at start-up does not prevent the pool from being created.
+	 * </p>
+	 */
+	public void ensureMinIdle()
+	{
+		this.ensureIdle(0);
+	}
+	
+	/**
+	 * Opens idle connections until the minimum idle is reached, plus the given number of extra
+	 * connections replacing retired ones, without exceeding the maximum size.
+	 */
+	private void ensureIdle(int replacements)
+	{
+		int opened = 0;
+		
+		while(true)
+		{
+			this.lock.lock();
+			
+			try
+			{
+				boolean belowMinIdle = this.idleConnections.size() + this.leasedConnections < this.minIdle;
+				
+				if(this.closed || this.totalConnections >= this.maxSize || (!belowMinIdle && opened >= replacements))
+				{
+					return;
+				}
+				
+				opened++;
+				
+				this.totalConnections++;
+				this.leasedConnections++;
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			try
+			{
+				this.openIdleConnection();
+			}
+			catch(DataAccessException e)
+			{
+				this.logger.warning(e);
+				
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Establishes a connection for a slot already reserved in {@code totalConnections}, prepares the
+	 * warm-up statements on it and adds it to the idle connections.
+	 */
+	private void openIdleConnection() throws DataAccessException
+	{
+		DatabaseConnection connection = this.createConnection(null);
+		
+		connection.lease(this, null);
+		
+		for(String sql : this.warmUpStatements)
+		{
+			try
+			{
+				connection.cacheStatement(sql);
+			}
+			catch(DataAccessException e)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.WARM_UP_STATEMENT_ERROR, sql);
+				
+				this.logger.warning(errorMessage, e);
+			}
+		}
+		
+		this.release(connection);
+	}
+	
+	/**
+	 * Registers a statement to be prepared on every connection opened by {@link #warmUp(int)}
+	 * or by the background housekeeping.
+	 *
+	 * @param sql The SQL statement to prepare.
+	 */
+	public void addWarmUpStatement(String sql)
+	{
+		if(sql == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[sql] ");
+			methodName.append(DatabaseConnectionPool.class.getSimpleName());
+			methodName.append("::");
+			methodName.append("addWarmUpStatement(String sql)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		this.warmUpStatements.add(sql);
+	}
+	
+	/**
+	 * Gets the statements prepared on every warmed up connection.
+	 *
+	 * @return an unmodifiable view of the registered warm-up statements.
+	 */
+	public List<String> getWarmUpStatements()
+	{
+		return List.copyOf(this.warmUpStatements);
+	}
+	
+	/**
+	 * Opens connections in parallel until the pool holds the given number of connections,
+	 * without exceeding {@code DATABASE_POOL_MAX_SIZE}.
+	 *
+	 * <p>
+	 * Each connection is established on its own temporary thread, has the registered warm-up statements
+	 * prepared and is then added to the idle connections. Connections already open count towards the target.
+	 * </p>
+	 *
+	 * @param connections The number of connections the pool should hold.
+	 * @return the time spent warming up the pool.
+	 * @throws DataAccessException If the pool is closed, the calling thread is interrupted
+	 *                             or some of the connections could not be established.
+	 */
+	public Duration warmUp(int connections) throws DataAccessException
+	{
+		long start = System.nanoTime();
+		
+		int target = Math.min(connections, this.maxSize);
+		int pending;
+		
+		this.lock.lock();
+		
+		try
+		{
+			this.assertOpen();
+			
+			pending = target - this.totalConnections;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		int opened = 0;
+		int failed = 0;
+		Throwable failure = null;
+		
+		if(pending > 0)
+		{
+			List<Callable<Boolean>> tasks = new ArrayList<>(pending);
+			
+			for(int i = 0; i < pending; i++)
+			{
+				tasks.add(() -> this.warmUpConnection(target));
+			}
+			
+			ExecutorService executor = Executors.newFixedThreadPool(pending, DatabaseConnectionPool::newWarmUpThread);
+			
+			try
+			{
+				for(Future<Boolean> future : executor.invokeAll(tasks))
+				{
+					try
+					{
+						if(future.get())
+						{
+							opened++;
+						}
+					}
+					catch(ExecutionException e)
+					{
+						failed++;
+						
+						if(failure == null)
+						{
+							failure = e.getCause();
+						}
+					}
+				}
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				
+				String errorMessage = MessageUtil.getMessage(Messages.POOL_INTERRUPTED_ERROR);
+				
+				throw new DataAccessException(errorMessage, e);
+			}
+			finally
+			{
+				executor.shutdownNow();
+			}
+		}
+		
+		if(failed > 0)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.POOL_WARM_UP_ERROR, failed, this);
+			
+			throw new DataAccessException(errorMessage, failure);
+		}
+		
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+		
+		if(this.logger.isDebugging())
+		{
+			String debugMessage = MessageUtil.getMessage(Messages.POOL_WARMED_UP, opened, elapsed.toMillis(), this);
+			
+			this.logger.debug(debugMessage);
+		}
+		
+		return elapsed;
+	}
+	
+	/**
+	 * Reserves a slot and opens one idle connection unless the pool already reached the warm-up target.
+	 * Each task reserves its own slot, so tasks cancelled before running leave no reservation behind.
+	 */
+	private boolean warmUpConnection(int target) throws DataAccessException
+	{
+		this.lock.lock();
+		
+		try
+		{
+			if(this.closed || this.totalConnections >= target)
+			{
+				return false;
+			}
+			
+			this.totalConnections++;
+			this.leasedConnections++;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		this.openIdleConnection();
+		
+		return true;
+	}
+	
+	private static Thread newWarmUpThread(Runnable runnable)
+	{
+		Thread thread = new Thread(runnable, Values.Constants.WARM_UP_THREAD_NAME);
+		
+		thread.setDaemon(true);
+		
+		return thread;
+	}
+	
+	/**
+	 * Closes idle connections past their idle timeout while keeping the minimum idle connections, and retires
+	 * idle connections past their maximum lifetime, opening replacements if configured.
+	 * Runs on the housekeeping thread.
+	 */
+	void evictConnections()
+	{
+		List<DatabaseConnection> evicted = new ArrayList<>();
+		
+		int expired = 0;
+		
+		long now = System.nanoTime();
+		
+		this.lock.lock();
+		
+		try
+		{
+			if(this.closed)
+			{
+				return;
+			}
+			
+			// Least recently used connections are at the tail
+			Iterator<DatabaseConnection> iterator = this.idleConnections.descendingIterator();
+			
+			while(iterator.hasNext())
+			{
+				DatabaseConnection connection = iterator.next();
+				
+				if(connection.isExpired(now))
+				{
+					expired++;
+				}
+				else if(!connection.isIdleTimedOut(now) || this.totalConnections <= this.minIdle)
+				{
+					continue;
+				}
+				
+				iterator.remove();
+				
+				evicted.add(connection);
+				
+				this.totalConnections--;
+			}
+			
+			if(!evicted.isEmpty())
+			{
+				this.available.signalAll();
+			}
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		for(DatabaseConnection connection : evicted)
+		{
+			if(this.logger.isDebugging())
+			{
+				String debugMessage = MessageUtil.getMessage(Messages.CONNECTION_EVICTED, connection);
+				
+				this.logger.debug(debugMessage);
+			}
+			
+			connection.silentClose();
+		}
+		
+		this.replenish(this.replaceExpired ? expired : 0);
+	}
+	
+	/**
+	 * Opens the connections restoring the minimum idle, plus the given replacements, on an opener thread
+	 * of {@link ConnectionHousekeeper}, so a slow or unreachable database never blocks the housekeeping thread.
+	 * Replacements requested while connections are being opened are carried over to the next run.
+	 */
+	private void replenish(int replacements)
+	{
+		this.pendingReplacements.addAndGet(replacements);
+		
+		if((this.minIdle > 0 || this.pendingReplacements.get() > 0) && this.replenishing.compareAndSet(false, true))
+		{
+			ConnectionHousekeeper.execute(() ->
+			{
+				try
+				{
+					this.ensureIdle(this.pendingReplacements.getAndSet(0));
+				}
+				finally
+				{
+					this.replenishing.set(false);
+				}
+			});
+		}
+	}
+	
+	private void assertOpen() throws DataAccessException
+	{
+		if(this.closed)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.POOL_CLOSED_ERROR, this);
+			
+			throw new DataAccessException(errorMessage);
+		}
+	}
+	
+	/**
+	 * Returns whether this pool has been closed.
+	 *
+	 * @return {@code true} if {@link #close()} has been called.
+	 */
+	public boolean isClosed()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.closed;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the number of physical connections currently open or being opened by the pool.
+	 */
+	public int getTotalConnections()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.totalConnections;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the number of connections available for leasing.
+	 */
+	public int getIdleConnections()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.idleConnections.size();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the number of connections currently leased.
+	 */
+	public int getLeasedConnections()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.leasedConnections;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Gets the number of callers currently waiting for a connection.
+	 */
+	public int getWaitingThreads()
+	{
+		this.lock.lock();
+		
+		try
+		{
+			return this.waitingThreads;
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+	}
+	
+	/**
+	 * Closes the pool.
+	 *
+	 * <p>
+	 * Idle connections are closed immediately, leased connections are closed when they are returned.
+	 * Callers waiting for a connection fail with a {@link DataAccessException}.
+	 * </p>
+	 */
+	@Override
+	public void close()
+	{
+		List<DatabaseConnection> connections;
+		
+		this.lock.lock();
+		
+		try
+		{
+			if(this.closed)
+			{
+				return;
+			}
+			
+			this.closed = true;
+			
+			this.housekeeping.cancel(false);
+			
+			connections = new ArrayList<>(this.idleConnections);
+			
+			this.totalConnections -= connections.size();
+			
+			this.idleConnections.clear();
+			
+			this.available.signalAll();
+		}
+		finally
+		{
+			this.lock.unlock();
+		}
+		
+		for(DatabaseConnection connection : connections)
+		{
+			connection.silentClose();
+		}
+	}
+	
+	/**
+	 * Returns a concise, single-line string representation of this pool, including the database URL
+	 * and the current connection counters.
+	 *
+	 * @return a short string summarizing the pool state
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		String url = this.configuration.getValue(Values.VariableNames.DATABASE_URL);
+		
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" [");
+		sb.append(url != null ? url : "(no url)");
+		sb.append("] total: ").append(this.getTotalConnections());
+		sb.append(", idle: ").append(this.getIdleConnections());
+		sb.append(", leased: ").append(this.getLeasedConnections());
+		sb.append(", waiting: ").append(this.getWaitingThreads());
+		
+		return sb.toString();
+	}
+}
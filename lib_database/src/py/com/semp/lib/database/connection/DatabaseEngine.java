@@ -1,5 +1,17 @@
 package py.com.semp.lib.database.connection;
 
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
 /**
  * Enum representing supported database engines and their associated JDBC driver class names.
  * <p>
@@ -8,44 +20,106 @@ package py.com.semp.lib.database.connection;
  * </p>
  *
  * You can retrieve the driver class for registration or diagnostics using {@link #getDriverClass()}.
+ * <p>
+ * Each engine also knows the driver property used to bound the time spent establishing a connection,
+ * so the login timeout is applied per connection instead of through the JVM-wide {@code DriverManager} setting.
+ * </p>
+ * <p>
+ * Engines ship a performance profile of recommended driver properties (batch rewriting, statement caching,
+ * cursor based fetching), applied at connect time when {@code DATABASE_PERFORMANCE_PROFILE_ENABLED} is enabled.
+ * The profiles leave out properties that change results or session semantics, such as SQL Server
+ * {@code sendStringParametersAsUnicode} or the MySQL session state caching, which can still be set explicitly.
+ * Individual properties can be overridden through {@code DATABASE_DRIVER_PROPERTIES}.
+ * </p>
+ * <p>
+ * The bind parameter and row limits of each engine bound the size of the statements generated
+ * by multi-row inserts, see {@link BatchOptions#setMultiRowInsert(boolean)}.
+ * </p>
+ * <p>
+ * The quoting and comment rules of each engine are used to find the named parameters of a query,
+ * see {@link py.com.semp.lib.database.utilities.NamedQuery#compile(String, DatabaseEngine)}.
+ * </p>
  */
 public enum DatabaseEngine
 {
     /** MySQL or MariaDB via Connector/J driver. */
-    MYSQL("com.mysql.cj.jdbc.Driver"),
+    MYSQL("com.mysql.cj.jdbc.Driver", "connectTimeout", TimeUnit.MILLISECONDS, 65535, 0, profile(
+        "rewriteBatchedStatements", "true",
+        "useServerPrepStmts", "true",
+        "cachePrepStmts", "true",
+        "prepStmtCacheSize", "250",
+        "prepStmtCacheSqlLimit", "2048",
+        "useCursorFetch", "true",
+        "cacheResultSetMetadata", "true",
+        "maintainTimeStats", "false")),
 
     /** PostgreSQL via the official PostgreSQL JDBC driver. */
-    POSTGRES("org.postgresql.Driver"),
+    POSTGRES("org.postgresql.Driver", "loginTimeout", TimeUnit.SECONDS, 32767, 0, profile(
+        "reWriteBatchedInserts", "true",
+        "prepareThreshold", "3",
+        "preparedStatementCacheQueries", "256",
+        "defaultRowFetchSize", "1000",
+        "tcpKeepAlive", "true")),
 
     /** SQLite using the Xerial SQLite JDBC driver. */
-    SQLITE("org.sqlite.JDBC"),
+    SQLITE("org.sqlite.JDBC", null, null, 999, 0, profile()),
 
     /** Microsoft SQL Server using the Microsoft JDBC driver. */
-    SQLSERVER("com.microsoft.sqlserver.jdbc.SQLServerDriver"),
+    SQLSERVER("com.microsoft.sqlserver.jdbc.SQLServerDriver", "loginTimeout", TimeUnit.SECONDS, 2100, 1000, profile(
+        "disableStatementPooling", "false",
+        "statementPoolingCacheSize", "100")),
 
     /** IBM Db2 via the IBM Data Server Driver for JDBC and SQLJ. */
-    DB2("com.ibm.db2.jcc.DB2Driver"),
+    DB2("com.ibm.db2.jcc.DB2Driver", "loginTimeout", TimeUnit.SECONDS, 32767, 0, profile(
+        "progressiveStreaming", "1",
+        "maxStatements", "100")),
 
     /** Oracle Database using the Oracle JDBC Thin driver. */
-    ORACLE("oracle.jdbc.OracleDriver"),
+    ORACLE("oracle.jdbc.OracleDriver", "oracle.net.CONNECT_TIMEOUT", TimeUnit.MILLISECONDS, 65535, 0, profile(
+        "oracle.jdbc.implicitStatementCacheSize", "100",
+        "defaultRowPrefetch", "100")),
 
     /** H2 Database Engine (in-memory or file-based). */
-    H2("org.h2.Driver"),
+    H2("org.h2.Driver", null, null, 65535, 0, profile()),
 
     /** HyperSQL Database (HSQLDB). */
-    HSQLDB("org.hsqldb.jdbc.JDBCDriver"),
+    HSQLDB("org.hsqldb.jdbc.JDBCDriver", null, null, 65535, 0, profile()),
 
     /** Firebird SQL via Jaybird JDBC driver. */
-    FIREBIRD("org.firebirdsql.jdbc.FBDriver"),
+    FIREBIRD("org.firebirdsql.jdbc.FBDriver", "connectTimeout", TimeUnit.SECONDS, 32767, 1, profile()),
 
     /** SAP Sybase Adaptive Server Enterprise (ASE) using jConnect. */
-    SYBASE("com.sybase.jdbc4.jdbc.SybDriver");
+    SYBASE("com.sybase.jdbc4.jdbc.SybDriver", "LOGINTIMEOUT", TimeUnit.SECONDS, 2048, 1, profile(
+        "DYNAMIC_PREPARE", "true"));
 
     private final String driverClass;
+    private final String loginTimeoutProperty;
+    private final TimeUnit loginTimeoutUnit;
+    private final int maxBindParameters;
+    private final int maxInsertRows;
+    private final Map<String, String> performanceProfile;
+    private volatile Driver driver;
 
-    DatabaseEngine(String driverClass)
+    DatabaseEngine(String driverClass, String loginTimeoutProperty, TimeUnit loginTimeoutUnit, int maxBindParameters, int maxInsertRows, Map<String, String> performanceProfile)
     {
         this.driverClass = driverClass;
+        this.loginTimeoutProperty = loginTimeoutProperty;
+        this.loginTimeoutUnit = loginTimeoutUnit;
+        this.maxBindParameters = maxBindParameters;
+        this.maxInsertRows = maxInsertRows;
+        this.performanceProfile = performanceProfile;
+    }
+
+    private static Map<String, String> profile(String... keysAndValues)
+    {
+        Map<String, String> properties = new LinkedHashMap<>();
+
+        for(int i = 0; i < keysAndValues.length; i += 2)
+        {
+            properties.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+
+        return Collections.unmodifiableMap(properties);
     }
 
     /**
@@ -57,4 +131,197 @@ public enum DatabaseEngine
     {
         return driverClass;
     }
+
+    /**
+     * Returns the driver property holding the login timeout, or {@code null} if the driver has none.
+     *
+     * @return the login timeout property name.
+     */
+    public String getLoginTimeoutProperty()
+    {
+        return loginTimeoutProperty;
+    }
+
+    /**
+     * Converts a login timeout to the value expected by {@link #getLoginTimeoutProperty()}.
+     *
+     * @param timeoutSeconds the login timeout in seconds.
+     * @return the timeout expressed in the unit of the driver property.
+     */
+    public String toLoginTimeoutValue(int timeoutSeconds)
+    {
+        return String.valueOf(loginTimeoutUnit.convert(timeoutSeconds, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Returns the maximum number of bind parameters accepted in a single statement.
+     *
+     * @return the bind parameter limit.
+     */
+    public int getMaxBindParameters()
+    {
+        return maxBindParameters;
+    }
+
+    /**
+     * Returns the maximum number of rows accepted in a single {@code INSERT ... VALUES} statement.
+     *
+     * @return the row limit, zero if only the bind parameters are limited, one if multi-row inserts are not supported.
+     */
+    public int getMaxInsertRows()
+    {
+        return maxInsertRows;
+    }
+
+    /**
+     * Returns whether multi-row inserts are written as {@code INSERT ALL ... SELECT 1 FROM DUAL}
+     * instead of a {@code VALUES} list.
+     *
+     * @return {@code true} for Oracle.
+     */
+    public boolean usesInsertAll()
+    {
+        return this == ORACLE;
+    }
+
+    /**
+     * Converts a fetch size to the one making the driver stream a forward-only, read-only result set
+     * instead of reading it whole into memory.
+     * <p>
+     * MySQL Connector/J only streams row by row with a fetch size of {@link Integer#MIN_VALUE};
+     * other drivers use the fetch size as the number of rows per round trip.
+     * </p>
+     *
+     * @param fetchSize the rows per round trip.
+     * @return the fetch size to set on the statement.
+     */
+    public int toStreamingFetchSize(int fetchSize)
+    {
+        return this == MYSQL ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    /**
+     * Returns whether the driver only uses a server-side cursor inside a transaction, as the PostgreSQL driver
+     * does, ignoring the fetch size in auto-commit mode.
+     *
+     * @return {@code true} for PostgreSQL.
+     */
+    public boolean requiresTransactionToStream()
+    {
+        return this == POSTGRES;
+    }
+
+    /**
+     * Returns whether a backslash escapes the next character in quoted strings, as in MySQL
+     * unless {@code NO_BACKSLASH_ESCAPES} is enabled. Double-quoted text is a string for this engine as well.
+     *
+     * @return {@code true} for MySQL.
+     */
+    public boolean usesBackslashEscapes()
+    {
+        return this == MYSQL;
+    }
+
+    /**
+     * Returns whether {@code /* *}{@code /} comments may be nested, so an inner comment needs its own terminator.
+     *
+     * @return {@code true} for PostgreSQL and SQL Server.
+     */
+    public boolean nestsBlockComments()
+    {
+        return this == POSTGRES || this == SQLSERVER;
+    }
+
+    /**
+     * Returns whether {@code $$...$$} and {@code $tag$...$tag$} quote a string body.
+     *
+     * @return {@code true} for PostgreSQL.
+     */
+    public boolean usesDollarQuoting()
+    {
+        return this == POSTGRES;
+    }
+
+    /**
+     * Returns whether {@code #} starts a line comment, and {@code --} only does when followed by whitespace.
+     *
+     * @return {@code true} for MySQL.
+     */
+    public boolean usesMySQLComments()
+    {
+        return this == MYSQL;
+    }
+
+    /**
+     * Returns the recommended driver properties for throughput with this engine.
+     *
+     * @return an unmodifiable map of driver property names to values.
+     */
+    public Map<String, String> getPerformanceProfile()
+    {
+        return performanceProfile;
+    }
+
+    /**
+     * Returns the JDBC driver of this engine, resolving it only the first time it is needed.
+     * <p>
+     * The instance registered in {@link DriverManager} is reused when available, so connections
+     * can be opened through {@link Driver#connect} without scanning every registered driver.
+     * </p>
+     *
+     * @return the driver instance.
+     * @throws DataAccessException if the driver class is not found or cannot be instantiated.
+     */
+    Driver getDriver() throws DataAccessException
+    {
+        Driver resolved = driver;
+
+        if(resolved == null)
+        {
+            resolved = resolveDriver();
+
+            driver = resolved;
+        }
+
+        return resolved;
+    }
+
+    private Driver resolveDriver() throws DataAccessException
+    {
+        Class<?> type;
+
+        try
+        {
+            type = Class.forName(driverClass);
+        }
+        catch(ClassNotFoundException e)
+        {
+            String errorMessage = MessageUtil.getMessage(Messages.DATABASE_DRIVER_NOT_FOUND_ERROR, driverClass);
+
+            throw new DataAccessException(errorMessage, e);
+        }
+
+        Enumeration<Driver> drivers = DriverManager.getDrivers();
+
+        while(drivers.hasMoreElements())
+        {
+            Driver registered = drivers.nextElement();
+
+            if(registered.getClass() == type)
+            {
+                return registered;
+            }
+        }
+
+        try
+        {
+            return (Driver) type.getDeclaredConstructor().newInstance();
+        }
+        catch(ReflectiveOperationException | ClassCastException e)
+        {
+            String errorMessage = MessageUtil.getMessage(Messages.DRIVER_INSTANTIATION_ERROR, driverClass);
+
+            throw new DataAccessException(errorMessage, e);
+        }
+    }
 }
\ No newline at end of file
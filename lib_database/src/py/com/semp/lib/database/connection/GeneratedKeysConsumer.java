@@ -0,0 +1,27 @@
+package py.com.semp.lib.database.connection;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * Receives the keys generated by the database for each chunk of a batch execution.
+ *
+ * @author Sergio Morel
+ * @see BatchOptions#setGeneratedKeysConsumer(GeneratedKeysConsumer)
+ */
+@FunctionalInterface
+public interface GeneratedKeysConsumer
+{
+	/**
+	 * Consumes the keys generated by one chunk of rows.
+	 * <p>
+	 * The result set is closed after this method returns and must not be kept.
+	 *
+	 * @param generatedKeys The generated keys, one row per inserted row, in the order the rows were added.
+	 * @throws SQLException If reading the keys fails.
+	 * @throws DataAccessException If processing the keys fails.
+	 */
+	void accept(ResultSet generatedKeys) throws SQLException, DataAccessException;
+}
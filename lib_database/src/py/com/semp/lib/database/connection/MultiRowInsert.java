@@ -0,0 +1,352 @@
+package py.com.semp.lib.database.connection;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.internal.LruCache;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * A single-row {@code INSERT ... VALUES (...)} statement rewritten to insert several rows per execution.
+ *
+ * <p>
+ * The statement is split once around its {@code VALUES} row, which is then repeated as
+ * {@code VALUES (...), (...), ...}, or as {@code INSERT ALL INTO ... VALUES (...) ... SELECT 1 FROM DUAL}
+ * on Oracle. Anything following the row, like {@code RETURNING} or {@code ON CONFLICT}, is kept after the last row.
+ * Statements with placeholders outside of the row are not rewritten and run one row per execution, since the
+ * parameters of each row are bound consecutively.
+ * </p>
+ *
+ * <p>
+ * The SQL generated for each number of rows is kept, so every full chunk executes the same text and reuses
+ * the statement from the {@link StatementCache}. Instances are cached per engine and SQL, keeping the
+ * {@code MULTI_ROW_INSERT_CACHE_SIZE} most recently used statements of each engine, and are thread-safe.
+ * </p>
+ *
+ * @author Sergio Morel
+ * @see BatchOptions#setMultiRowInsert(boolean)
+ */
+final class MultiRowInsert
+{
+	private static final Map<DatabaseEngine, LruCache<String, MultiRowInsert>> CACHE = new EnumMap<>(DatabaseEngine.class);
+	
+	static
+	{
+		for(DatabaseEngine engine : DatabaseEngine.values())
+		{
+			CACHE.put(engine, new LruCache<>(Values.Constants.MULTI_ROW_INSERT_CACHE_SIZE));
+		}
+	}
+	
+	private final DatabaseEngine engine;
+	private final String head;
+	private final String row;
+	private final String tail;
+	private final int parameterCount;
+	private final boolean outerParameters;
+	private final ConcurrentMap<Integer, String> statements = new ConcurrentHashMap<>();
+	
+	private MultiRowInsert(DatabaseEngine engine, String head, String row, String tail, int parameterCount, boolean outerParameters)
+	{
+		super();
+		
+		this.engine = engine;
+		this.head = head;
+		this.row = row;
+		this.tail = tail;
+		this.parameterCount = parameterCount;
+		this.outerParameters = outerParameters;
+	}
+	
+	/**
+	 * Returns the rewritable form of the given statement, splitting it only the first time it is seen.
+	 *
+	 * @param sql A single-row {@code INSERT} with a {@code VALUES} row containing {@code ?} placeholders.
+	 * @param engine The engine the statement is executed on.
+	 * @return the rewritable statement.
+	 * @throws DataAccessException if the statement is not a single-row {@code INSERT ... VALUES (...)}.
+	 */
+	static MultiRowInsert compile(String sql, DatabaseEngine engine) throws DataAccessException
+	{
+		LruCache<String, MultiRowInsert> cache = CACHE.get(engine);
+		
+		MultiRowInsert compiled = cache.get(sql);
+		
+		if(compiled != null)
+		{
+			return compiled;
+		}
+		
+		return cache.putIfAbsent(sql, parse(sql, engine));
+	}
+	
+	/**
+	 * Locates the {@code VALUES} keyword and its parenthesized row outside of quoted text,
+	 * counting the placeholders of the row.
+	 */
+	private static MultiRowInsert parse(String sql, DatabaseEngine engine) throws DataAccessException
+	{
+		int length = sql.length();
+		int start = skipWhitespace(sql, 0);
+		
+		if(!sql.regionMatches(true, start, "INSERT", 0, 6) || !isBoundary(sql, start + 6))
+		{
+			throw invalid(sql);
+		}
+		
+		int depth = 0;
+		int values = -1;
+		
+		for(int i = start + 6; i < length && values < 0; i++)
+		{
+			char c = sql.charAt(i);
+			
+			if(c == '\'' || c == '"' || c == '`')
+			{
+				i = skipQuoted(sql, i);
+			}
+			else if(c == '(')
+			{
+				depth++;
+			}
+			else if(c == ')')
+			{
+				depth--;
+			}
+			else if(depth == 0 && (c == 'V' || c == 'v') && isBoundary(sql, i - 1) && sql.regionMatches(true, i, "VALUES", 0, 6) && isBoundary(sql, i + 6))
+			{
+				values = i;
+			}
+		}
+		
+		if(values < 0)
+		{
+			throw invalid(sql);
+		}
+		
+		int open = skipWhitespace(sql, values + 6);
+		
+		if(open >= length || sql.charAt(open) != '(')
+		{
+			throw invalid(sql);
+		}
+		
+		int parameterCount = 0;
+		int close = -1;
+		
+		depth = 0;
+		
+		for(int i = open; i < length && close < 0; i++)
+		{
+			char c = sql.charAt(i);
+			
+			if(c == '\'' || c == '"' || c == '`')
+			{
+				i = skipQuoted(sql, i);
+			}
+			else if(c == '?')
+			{
+				parameterCount++;
+			}
+			else if(c == '(')
+			{
+				depth++;
+			}
+			else if(c == ')' && --depth == 0)
+			{
+				close = i;
+			}
+		}
+		
+		if(close < 0 || parameterCount == 0)
+		{
+			throw invalid(sql);
+		}
+		
+		String row = sql.substring(open, close + 1);
+		String tail = sql.substring(close + 1);
+		
+		if(skipWhitespace(tail, 0) < tail.length() && tail.charAt(skipWhitespace(tail, 0)) == ',')
+		{
+			throw invalid(sql);
+		}
+		
+		if(engine.usesInsertAll())
+		{
+			if(!tail.isBlank())
+			{
+				throw invalid(sql);
+			}
+			
+			String head = sql.substring(start + 6, values);
+			
+			return new MultiRowInsert(engine, head, row, "", parameterCount, countPlaceholders(head) > 0);
+		}
+		
+		String head = sql.substring(0, open);
+		
+		return new MultiRowInsert(engine, head, row, tail, parameterCount, countPlaceholders(head) + countPlaceholders(tail) > 0);
+	}
+	
+	/**
+	 * Counts the {@code ?} placeholders outside of quoted text.
+	 */
+	private static int countPlaceholders(String sql)
+	{
+		int count = 0;
+		
+		for(int i = 0; i < sql.length(); i++)
+		{
+			char c = sql.charAt(i);
+			
+			if(c == '\'' || c == '"' || c == '`')
+			{
+				i = skipQuoted(sql, i);
+			}
+			else if(c == '?')
+			{
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	private static int skipWhitespace(String sql, int index)
+	{
+		while(index < sql.length() && Character.isWhitespace(sql.charAt(index)))
+		{
+			index++;
+		}
+		
+		return index;
+	}
+	
+	private static boolean isBoundary(String sql, int index)
+	{
+		return index < 0 || index >= sql.length() || !Character.isLetterOrDigit(sql.charAt(index)) && sql.charAt(index) != '_';
+	}
+	
+	/**
+	 * Returns the index of the quote closing the one at the given index, doubled quotes being part of the text.
+	 */
+	private static int skipQuoted(String sql, int index)
+	{
+		char quote = sql.charAt(index);
+		
+		for(int i = index + 1; i < sql.length(); i++)
+		{
+			if(sql.charAt(i) == quote)
+			{
+				if(i + 1 < sql.length() && sql.charAt(i + 1) == quote)
+				{
+					i++;
+				}
+				else
+				{
+					return i;
+				}
+			}
+		}
+		
+		return sql.length();
+	}
+	
+	private static DataAccessException invalid(String sql)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.MULTI_ROW_INSERT_ERROR, sql);
+		
+		return new DataAccessException(errorMessage);
+	}
+	
+	/**
+	 * Gets the number of placeholders of a single row.
+	 */
+	int getParameterCount()
+	{
+		return this.parameterCount;
+	}
+	
+	/**
+	 * Gets how many rows fit in one statement without exceeding the chunk size or the limits of the engine.
+	 *
+	 * @return the rows per statement, one if the engine does not support multi-row inserts or the statement has
+	 * placeholders outside of its {@code VALUES} row, like an {@code ON CONFLICT ... SET x = ?} clause, which
+	 * cannot be repeated per row.
+	 */
+	int getRowsPerStatement(int chunkSize)
+	{
+		if(this.outerParameters)
+		{
+			return 1;
+		}
+		
+		int rows = Math.min(chunkSize, this.engine.getMaxBindParameters() / this.parameterCount);
+		
+		if(this.engine.getMaxInsertRows() > 0)
+		{
+			rows = Math.min(rows, this.engine.getMaxInsertRows());
+		}
+		
+		return Math.max(1, rows);
+	}
+	
+	/**
+	 * Gets the statement inserting the given number of rows, generating it only the first time it is needed.
+	 */
+	String getSQL(int rows)
+	{
+		String sql = this.statements.get(rows);
+		
+		if(sql == null)
+		{
+			sql = this.build(rows);
+			
+			String previous = this.statements.putIfAbsent(rows, sql);
+			
+			if(previous != null)
+			{
+				sql = previous;
+			}
+		}
+		
+		return sql;
+	}
+	
+	private String build(int rows)
+	{
+		if(this.engine.usesInsertAll())
+		{
+			StringBuilder sb = new StringBuilder(11 + rows * (this.head.length() + this.row.length() + 7) + 19);
+			
+			sb.append("INSERT ALL");
+			
+			for(int i = 0; i < rows; i++)
+			{
+				sb.append(this.head).append("VALUES ").append(this.row);
+			}
+			
+			sb.append(" SELECT 1 FROM DUAL");
+			
+			return sb.toString();
+		}
+		
+		StringBuilder sb = new StringBuilder(this.head.length() + rows * (this.row.length() + 2) + this.tail.length());
+		
+		sb.append(this.head).append(this.row);
+		
+		for(int i = 1; i < rows; i++)
+		{
+			sb.append(", ").append(this.row);
+		}
+		
+		sb.append(this.tail);
+		
+		return sb.toString();
+	}
+}
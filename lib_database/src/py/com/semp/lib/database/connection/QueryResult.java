@@ -0,0 +1,565 @@
+package py.com.semp.lib.database.connection;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import py.com.semp.lib.database.data.ColumnarResult;
+import py.com.semp.lib.database.data.RowView;
+import py.com.semp.lib.database.data.TypedRowLite;
+import py.com.semp.lib.database.data.TypedSchema;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.database.mapping.GenerateMapper;
+import py.com.semp.lib.database.mapping.ResultSetMapper;
+import py.com.semp.lib.database.mapping.RowMapper;
+import py.com.semp.lib.database.utilities.RowReader;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * An open cursor over the rows of a query, owning its statement and {@link ResultSet}.
+ *
+ * <p>
+ * The statement is configured to stream: forward-only, read-only and with the fetch size the
+ * {@link DatabaseEngine} needs to keep only one round trip of rows in memory, so arbitrarily large tables
+ * can be scanned in constant memory. On PostgreSQL, auto-commit is disabled while the cursor is open and
+ * restored when it is closed.
+ * </p>
+ *
+ * <p>
+ * The rows are read by a {@link RowReader} compiled once, into {@link TypedRowLite} instances sharing
+ * the same {@link TypedSchema}. The cursor is closed once its last row is read,
+ * and must be closed explicitly if it is abandoned before that:
+ * </p>
+ *
+ * <pre>{@code
+ * try(QueryResult result = connection.openQuery("SELECT * FROM events WHERE day = ?", day))
+ * {
+ *     result.forEach(row -> process(row));
+ * }
+ *
+ * try(Stream<TypedRowLite> rows = connection.openQuery("SELECT * FROM events").stream())
+ * {
+ *     long errors = rows.filter(row -> "ERROR".equals(row.get("level"))).count();
+ * }
+ * }</pre>
+ *
+ * <p>
+ * Rows can also be mapped straight to records or beans with {@link #list(Class)} and {@link #forEach(Class, Consumer)},
+ * or with a {@link ResultSetMapper} generated at compile time with {@link #list(ResultSetMapper)}.
+ * </p>
+ *
+ * <p>
+ * Like {@link DatabaseConnection}, this class is not thread-safe. Some drivers, like MySQL Connector/J,
+ * do not allow other statements on the connection until a streaming cursor is closed.
+ * </p>
+ *
+ * @author Sergio Morel
+ * @see DatabaseConnection#openQuery(String, Object...)
+ */
+public final class QueryResult implements AutoCloseable, Iterable<TypedRowLite>
+{
+	private final DatabaseConnection connection;
+	private final PreparedStatement statement;
+	private final ResultSet resultSet;
+	private final String sql;
+	private final boolean restoreAutoCommit;
+	
+	private RowReader reader;
+	private boolean fetched;
+	private boolean hasRow;
+	private boolean closed;
+	private long rowCount;
+	
+	QueryResult(DatabaseConnection connection, PreparedStatement statement, ResultSet resultSet, String sql, boolean restoreAutoCommit)
+	{
+		super();
+		
+		this.connection = connection;
+		this.statement = statement;
+		this.resultSet = resultSet;
+		this.sql = sql;
+		this.restoreAutoCommit = restoreAutoCommit;
+	}
+	
+	/**
+	 * Gets the schema of the rows, resolving it from the result set metadata the first time.
+	 *
+	 * @return the schema shared by every row.
+	 * @throws DataAccessException if the metadata cannot be read.
+	 */
+	public TypedSchema getSchema() throws DataAccessException
+	{
+		return this.getReader().getSchema();
+	}
+	
+	/**
+	 * Gets the reader of the rows, compiling it from the result set metadata the first time.
+	 *
+	 * @return the reader shared by every row.
+	 * @throws DataAccessException if the metadata cannot be read.
+	 */
+	public RowReader getReader() throws DataAccessException
+	{
+		if(this.reader == null)
+		{
+			this.reader = RowReader.compile(this.resultSet);
+		}
+		
+		return this.reader;
+	}
+	
+	/**
+	 * Gets the underlying result set, for reading columns without materializing the rows.
+	 * It must not be closed directly, close this cursor instead.
+	 */
+	public ResultSet getResultSet()
+	{
+		return this.resultSet;
+	}
+	
+	/**
+	 * Gets the number of rows read so far.
+	 */
+	public long getRowCount()
+	{
+		return this.rowCount;
+	}
+	
+	/**
+	 * Returns whether the cursor was closed, explicitly or after its last row.
+	 */
+	public boolean isClosed()
+	{
+		return this.closed;
+	}
+	
+	/**
+	 * Advances to the next row and reads it.
+	 *
+	 * @return the next row, or {@code null} once the rows are exhausted, closing the cursor.
+	 * @throws DataAccessException if the row cannot be read.
+	 */
+	public TypedRowLite next() throws DataAccessException
+	{
+		if(!this.fetchRow())
+		{
+			return null;
+		}
+		
+		this.fetched = false;
+		
+		return this.readRow();
+	}
+	
+	/**
+	 * Passes every remaining row to the consumer, closing the cursor at the end or on failure.
+	 *
+	 * @param consumer The consumer of the rows, must not keep the rows if it only needs their values.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public void forEachRow(Consumer<TypedRowLite> consumer) throws DataAccessException
+	{
+		try
+		{
+			TypedRowLite row;
+			
+			while((row = this.next()) != null)
+			{
+				consumer.accept(row);
+			}
+		}
+		finally
+		{
+			this.close();
+		}
+	}
+	
+	/**
+	 * Passes every remaining row to the consumer through one reusable {@link RowView}, closing the cursor
+	 * at the end or on failure. The view is refilled for every row, without allocating for numeric columns,
+	 * and is only valid during the call; rows to keep must be copied with {@link RowView#copy()}.
+	 *
+	 * @param consumer The consumer of the rows.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public void forEachView(Consumer<RowView> consumer) throws DataAccessException
+	{
+		try
+		{
+			RowReader reader = this.getReader();
+			
+			RowView view = new RowView(reader.getSchema());
+			
+			while(this.fetchRow())
+			{
+				this.fetched = false;
+				
+				reader.read(this.resultSet, view);
+				
+				this.rowCount++;
+				
+				consumer.accept(view);
+			}
+		}
+		finally
+		{
+			this.close();
+		}
+	}
+	
+	/**
+	 * Maps every remaining row to the given record or bean type with its {@link RowMapper}, passing the instances
+	 * to the consumer, and closes the cursor at the end or on failure.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param type The public record or bean class to map the rows to.
+	 * @param consumer The consumer of the mapped rows.
+	 * @throws DataAccessException if the mapper cannot be compiled, or a row cannot be read or mapped.
+	 */
+	public <T> void forEach(Class<T> type, Consumer<? super T> consumer) throws DataAccessException
+	{
+		try
+		{
+			RowReader reader = this.getReader();
+			
+			RowMapper<T> mapper = RowMapper.of(reader.getSchema(), type);
+			
+			while(this.fetchRow())
+			{
+				this.fetched = false;
+				
+				T row = mapper.map(reader.readValues(this.resultSet));
+				
+				this.rowCount++;
+				
+				consumer.accept(row);
+			}
+		}
+		finally
+		{
+			this.close();
+		}
+	}
+	
+	/**
+	 * Maps every remaining row to the given record or bean type and closes the cursor.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param type The public record or bean class to map the rows to.
+	 * @return the mapped rows.
+	 * @throws DataAccessException if the mapper cannot be compiled, or a row cannot be read or mapped.
+	 * @see RowMapper
+	 */
+	public <T> List<T> list(Class<T> type) throws DataAccessException
+	{
+		List<T> rows = new ArrayList<>();
+		
+		this.forEach(type, rows::add);
+		
+		return rows;
+	}
+	
+	/**
+	 * Maps every remaining row with the given mapper, like the ones generated for {@link GenerateMapper},
+	 * passing the instances to the consumer, and closes the cursor at the end or on failure.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param mapper The mapper of the rows.
+	 * @param consumer The consumer of the mapped rows.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public <T> void forEach(ResultSetMapper<T> mapper, Consumer<? super T> consumer) throws DataAccessException
+	{
+		try
+		{
+			while(this.fetchRow())
+			{
+				this.fetched = false;
+				
+				T row = mapper.map(this.resultSet);
+				
+				this.rowCount++;
+				
+				consumer.accept(row);
+			}
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, this.sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		finally
+		{
+			this.close();
+		}
+	}
+	
+	/**
+	 * Maps every remaining row with the given mapper and closes the cursor.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param mapper The mapper of the rows.
+	 * @return the mapped rows.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public <T> List<T> list(ResultSetMapper<T> mapper) throws DataAccessException
+	{
+		List<T> rows = new ArrayList<>();
+		
+		this.forEach(mapper, rows::add);
+		
+		return rows;
+	}
+	
+	/**
+	 * Passes every remaining row to the consumer, closing the cursor at the end or on failure.
+	 *
+	 * @throws UncheckedDataAccessException if a row cannot be read.
+	 */
+	@Override
+	public void forEach(Consumer<? super TypedRowLite> consumer)
+	{
+		try
+		{
+			this.forEachRow(consumer::accept);
+		}
+		catch(DataAccessException e)
+		{
+			throw new UncheckedDataAccessException(e);
+		}
+	}
+	
+	/**
+	 * Returns an iterator over the remaining rows. Every call iterates the same cursor.
+	 * Read errors are thrown as {@link UncheckedDataAccessException}.
+	 */
+	@Override
+	public Iterator<TypedRowLite> iterator()
+	{
+		return new Iterator<TypedRowLite>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				try
+				{
+					return QueryResult.this.fetchRow();
+				}
+				catch(DataAccessException e)
+				{
+					throw new UncheckedDataAccessException(e);
+				}
+			}
+			
+			@Override
+			public TypedRowLite next()
+			{
+				try
+				{
+					TypedRowLite row = QueryResult.this.next();
+					
+					if(row == null)
+					{
+						throw new NoSuchElementException();
+					}
+					
+					return row;
+				}
+				catch(DataAccessException e)
+				{
+					throw new UncheckedDataAccessException(e);
+				}
+			}
+		};
+	}
+	
+	/**
+	 * Returns a sequential stream over the remaining rows, pulling them from the database as they are consumed.
+	 * Closing the stream closes the cursor, so it should be used in a try-with-resources block.
+	 * Read errors are thrown as {@link UncheckedDataAccessException}.
+	 */
+	public Stream<TypedRowLite> stream()
+	{
+		Spliterator<TypedRowLite> spliterator = Spliterators.spliteratorUnknownSize(this.iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+		
+		return StreamSupport.stream(spliterator, false).onClose(() ->
+		{
+			try
+			{
+				this.close();
+			}
+			catch(DataAccessException e)
+			{
+				throw new UncheckedDataAccessException(e);
+			}
+		});
+	}
+	
+	/**
+	 * Reads every remaining row into a {@link ColumnarResult}, without boxing the primitive columns,
+	 * and closes the cursor.
+	 *
+	 * @return the remaining rows, stored by column.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public ColumnarResult readColumnar() throws DataAccessException
+	{
+		try
+		{
+			RowReader reader = this.getReader();
+			
+			ColumnarResult.Builder builder = ColumnarResult.builder(reader.getSchema());
+			
+			if(this.fetched && this.hasRow)
+			{
+				this.fetched = false;
+				
+				reader.copyRow(this.resultSet, builder);
+				
+				builder.nextRow();
+			}
+			
+			if(!this.closed)
+			{
+				reader.readColumnar(this.resultSet, builder);
+			}
+			
+			this.rowCount += builder.size();
+			
+			return builder.build();
+		}
+		finally
+		{
+			this.close();
+		}
+	}
+	
+	/**
+	 * Moves the result set to the next row unless it is already positioned on an unread one.
+	 */
+	private boolean fetchRow() throws DataAccessException
+	{
+		if(this.fetched)
+		{
+			return this.hasRow;
+		}
+		
+		if(this.closed)
+		{
+			return false;
+		}
+		
+		try
+		{
+			this.hasRow = this.resultSet.next();
+			this.fetched = true;
+			
+			this.connection.touch();
+		}
+		catch(SQLException e)
+		{
+			this.closeOnError(e);
+			
+			String errorMessage = MessageUtil.getMessage(Messages.QUERY_EXECUTION_ERROR, this.sql);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		
+		if(!this.hasRow)
+		{
+			this.close();
+		}
+		
+		return this.hasRow;
+	}
+	
+	private TypedRowLite readRow() throws DataAccessException
+	{
+		TypedRowLite row = this.getReader().read(this.resultSet);
+		
+		this.rowCount++;
+		
+		return row;
+	}
+	
+	private void closeOnError(SQLException e)
+	{
+		try
+		{
+			this.close();
+		}
+		catch(DataAccessException closeException)
+		{
+			e.addSuppressed(closeException);
+		}
+	}
+	
+	/**
+	 * Closes the result set and the statement, and restores auto-commit if the cursor disabled it.
+	 * Does nothing if the cursor is already closed.
+	 *
+	 * @throws DataAccessException if closing fails.
+	 */
+	@Override
+	public void close() throws DataAccessException
+	{
+		if(this.closed)
+		{
+			return;
+		}
+		
+		this.closed = true;
+		this.hasRow = false;
+		this.fetched = true;
+		
+		SQLException exception = null;
+		
+		try
+		{
+			this.resultSet.close();
+		}
+		catch(SQLException e)
+		{
+			exception = e;
+		}
+		
+		try
+		{
+			this.statement.close();
+		}
+		catch(SQLException e)
+		{
+			if(exception == null)
+			{
+				exception = e;
+			}
+			else
+			{
+				exception.addSuppressed(e);
+			}
+		}
+		
+		if(this.restoreAutoCommit)
+		{
+			this.connection.setAutoCommit(true);
+		}
+		
+		if(exception != null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.CLOSING_QUERY_RESULT_ERROR, this.sql);
+			
+			throw new DataAccessException(errorMessage, exception);
+		}
+	}
+}
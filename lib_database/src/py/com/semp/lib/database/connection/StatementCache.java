@@ -0,0 +1,318 @@
+package py.com.semp.lib.database.connection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import py.com.semp.lib.utilidades.log.Logger;
+
+/**
+ * A bounded cache of {@link PreparedStatement} instances belonging to a single physical connection.
+ *
+ * <p>
+ * Statements are keyed by their SQL text, result set type and result set concurrency. A cached statement is
+ * checked out while it is being executed and checked back in afterwards with its parameters cleared instead of
+ * being closed, so executing the same SQL again skips the parse and often the plan on the server.
+ * </p>
+ *
+ * <p>
+ * When the cache holds more than its maximum size, the least recently used statement is closed.
+ * A statement whose last {@link ResultSet} is still open is never reused, and is only closed once that
+ * result set is closed by the caller.
+ * </p>
+ *
+ * <p>
+ * Like {@link DatabaseConnection}, this class is not thread-safe and must be used by the thread owning the connection.
+ * </p>
+ *
+ * @author Sergio Morel
+ * @see DatabaseConnection#getStatementCache()
+ */
+public final class StatementCache
+{
+	private final Logger logger;
+	private final Map<Key, Entry> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+	private final Map<PreparedStatement, Entry> leasedStatements = new IdentityHashMap<>();
+	
+	private int maxSize;
+	private long hits;
+	private long misses;
+	private long evictions;
+	
+	StatementCache(int maxSize, Logger logger)
+	{
+		super();
+		
+		this.maxSize = Math.max(0, maxSize);
+		this.logger = logger;
+	}
+	
+	/**
+	 * Changes the maximum number of cached statements, closing the least recently used ones if needed.
+	 */
+	void setMaxSize(int maxSize)
+	{
+		this.maxSize = Math.max(0, maxSize);
+		
+		this.trim();
+	}
+	
+	/**
+	 * Checks out a statement for the given SQL, preparing a new one on a miss.
+	 * The statement must be given back with {@link #release(PreparedStatement, ResultSet)}.
+	 */
+	PreparedStatement acquire(Connection connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException
+	{
+		Key key = new Key(sql, resultSetType, resultSetConcurrency);
+		
+		Entry entry = this.idleStatements.get(key);
+		
+		if(entry != null && !entry.isBusy())
+		{
+			this.idleStatements.remove(key);
+			
+			this.hits++;
+			
+			entry.resultSet = null;
+			
+			this.leasedStatements.put(entry.statement, entry);
+			
+			return entry.statement;
+		}
+		
+		this.misses++;
+		
+		PreparedStatement statement = connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		
+		if(this.maxSize > 0)
+		{
+			this.leasedStatements.put(statement, new Entry(key, statement));
+		}
+		
+		return statement;
+	}
+	
+	/**
+	 * Checks a statement back in. Cached statements get their parameters cleared and become available again,
+	 * any other statement is closed, immediately or once the given result set is closed.
+	 *
+	 * @param statement The statement returned by {@link #acquire}.
+	 * @param resultSet The result set produced by the statement and handed to the caller, or {@code null}.
+	 */
+	void release(PreparedStatement statement, ResultSet resultSet)
+	{
+		Entry entry = this.leasedStatements.remove(statement);
+		
+		if(entry == null || this.idleStatements.containsKey(entry.key))
+		{
+			this.close(statement, resultSet);
+			
+			return;
+		}
+		
+		try
+		{
+			statement.clearParameters();
+		}
+		catch(SQLException e)
+		{
+			this.logger.debug(e);
+			
+			this.close(statement, resultSet);
+			
+			return;
+		}
+		
+		entry.resultSet = resultSet;
+		
+		this.idleStatements.put(entry.key, entry);
+		
+		this.trim();
+	}
+	
+	/**
+	 * Drops a statement that failed, so it is never handed out again.
+	 */
+	void invalidate(PreparedStatement statement)
+	{
+		this.leasedStatements.remove(statement);
+		
+		this.close(statement, null);
+	}
+	
+	/**
+	 * Forgets every statement without closing them, used when the physical connection is closed,
+	 * which closes its statements anyway.
+	 */
+	void clear()
+	{
+		this.idleStatements.clear();
+		this.leasedStatements.clear();
+	}
+	
+	private void trim()
+	{
+		Iterator<Entry> iterator = this.idleStatements.values().iterator();
+		
+		while(this.idleStatements.size() > this.maxSize && iterator.hasNext())
+		{
+			Entry eldest = iterator.next();
+			
+			iterator.remove();
+			
+			this.evictions++;
+			
+			this.close(eldest.statement, eldest.resultSet);
+		}
+	}
+	
+	private void close(PreparedStatement statement, ResultSet resultSet)
+	{
+		try
+		{
+			if(resultSet != null && !resultSet.isClosed())
+			{
+				statement.closeOnCompletion();
+			}
+			else
+			{
+				statement.close();
+			}
+		}
+		catch(SQLException e)
+		{
+			this.logger.warning(e);
+		}
+	}
+	
+	/**
+	 * Gets the maximum number of statements kept in the cache. Zero means caching is disabled.
+	 */
+	public int getMaxSize()
+	{
+		return this.maxSize;
+	}
+	
+	/**
+	 * Gets the number of statements currently available in the cache.
+	 */
+	public int size()
+	{
+		return this.idleStatements.size();
+	}
+	
+	/**
+	 * Gets the number of times a cached statement was reused.
+	 */
+	public long getHits()
+	{
+		return this.hits;
+	}
+	
+	/**
+	 * Gets the number of times a statement had to be prepared.
+	 */
+	public long getMisses()
+	{
+		return this.misses;
+	}
+	
+	/**
+	 * Gets the number of statements closed to keep the cache within its maximum size.
+	 */
+	public long getEvictions()
+	{
+		return this.evictions;
+	}
+	
+	/**
+	 * Returns a concise, single-line string representation of the cache counters.
+	 *
+	 * @return a short string summarizing the cache state
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" [").append(this.size()).append("/").append(this.maxSize).append("]");
+		sb.append(" hits: ").append(this.hits);
+		sb.append(", misses: ").append(this.misses);
+		sb.append(", evictions: ").append(this.evictions);
+		
+		return sb.toString();
+	}
+	
+	private static final class Key
+	{
+		private final String sql;
+		private final int resultSetType;
+		private final int resultSetConcurrency;
+		
+		private Key(String sql, int resultSetType, int resultSetConcurrency)
+		{
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+		}
+		
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(this == obj)
+			{
+				return true;
+			}
+			
+			if(!(obj instanceof Key))
+			{
+				return false;
+			}
+			
+			Key other = (Key) obj;
+			
+			return this.resultSetType == other.resultSetType && this.resultSetConcurrency == other.resultSetConcurrency && this.sql.equals(other.sql);
+		}
+		
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(this.sql, this.resultSetType, this.resultSetConcurrency);
+		}
+	}
+	
+	private static final class Entry
+	{
+		private final Key key;
+		private final PreparedStatement statement;
+		private ResultSet resultSet;
+		
+		private Entry(Key key, PreparedStatement statement)
+		{
+			this.key = key;
+			this.statement = statement;
+		}
+		
+		/**
+		 * Returns whether the caller still holds the open result set of the last execution.
+		 */
+		private boolean isBusy()
+		{
+			try
+			{
+				return this.resultSet != null && !this.resultSet.isClosed();
+			}
+			catch(SQLException e)
+			{
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package py.com.semp.lib.database.connection;
+
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * Wraps a {@link DataAccessException} thrown where checked exceptions are not allowed,
+ * like the {@link java.util.Iterator} and {@link java.util.stream.Stream} of a {@link QueryResult}.
+ *
+ * @author Sergio Morel
+ */
+public class UncheckedDataAccessException extends RuntimeException
+{
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Creates an instance wrapping the given exception.
+	 *
+	 * @param cause The checked exception.
+	 */
+	public UncheckedDataAccessException(DataAccessException cause)
+	{
+		super(cause.getMessage(), cause);
+	}
+	
+	/**
+	 * Gets the wrapped exception.
+	 */
+	@Override
+	public DataAccessException getCause()
+	{
+		return (DataAccessException) super.getCause();
+	}
+}
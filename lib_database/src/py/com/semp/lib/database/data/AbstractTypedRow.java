@@ -0,0 +1,322 @@
+package py.com.semp.lib.database.data;
+
+import java.util.StringJoiner;
+
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.ObjectNotFoundException;
+
+/**
+ * Accessors shared by {@link TypedRowLite} and {@link RowView} over the packed storage of a row:
+ * a {@code long[]} for the columns with a primitive storage type, an {@code Object[]} for the others
+ * and a null bitmap for the primitive columns, laid out by the {@link TypedSchema}.
+ *
+ * @author Sergio Morel
+ */
+abstract class AbstractTypedRow
+{
+	final TypedSchema schema;
+	long[] primitives;
+	Object[] objects;
+	long[] nulls;
+	
+	AbstractTypedRow(TypedSchema schema, long[] primitives, Object[] objects, long[] nulls)
+	{
+		super();
+		
+		this.schema = schema;
+		this.primitives = primitives;
+		this.objects = objects;
+		this.nulls = nulls;
+	}
+	
+	public TypedSchema getSchema()
+	{
+		return this.schema;
+	}
+	
+	public int size()
+	{
+		return this.schema.size();
+	}
+	
+	public <T> T get(int index)
+	{
+		Class<?> type = this.schema.getType(index);
+		
+		@SuppressWarnings("unchecked")
+		T value = (T) type.cast(this.getValue(index));
+		
+		return value;
+	}
+	
+	public <T> T get(String columnName)
+	{
+		return this.get(this.indexOf(columnName));
+	}
+	
+	public <T> T get(ColumnRef column)
+	{
+		return this.get(column.indexIn(this.schema));
+	}
+	
+	public <T> T get(int index, Class<T> type)
+	{
+		Object value = this.getValue(index);
+		
+		if(value == null)
+		{
+			return null;
+		}
+		
+		return type.cast(value);
+	}
+	
+	public <T> T get(String columnName, Class<T> type)
+	{
+		return this.get(this.indexOf(columnName), type);
+	}
+	
+	public <T> T get(ColumnRef column, Class<T> type)
+	{
+		return this.get(column.indexIn(this.schema), type);
+	}
+	
+	/**
+	 * Returns whether the cell is {@code null}.
+	 */
+	public boolean isNull(int index)
+	{
+		if(this.schema.getStorageType(index) == Object.class)
+		{
+			return this.objects[this.schema.getSlot(index)] == null;
+		}
+		
+		return this.nulls != null && (this.nulls[index >>> 6] & (1L << index)) != 0L;
+	}
+	
+	public boolean isNull(String columnName)
+	{
+		return this.isNull(this.indexOf(columnName));
+	}
+	
+	public boolean isNull(ColumnRef column)
+	{
+		return this.isNull(column.indexIn(this.schema));
+	}
+	
+	/**
+	 * Gets the cell of an integer, short or byte column without boxing, zero if it is {@code null}.
+	 * Object columns holding a {@link Number} are converted.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public int getInt(int index)
+	{
+		Class<?> storageType = this.schema.getStorageType(index);
+		
+		if(storageType == int.class)
+		{
+			return (int) this.primitives[this.schema.getSlot(index)];
+		}
+		
+		return this.getNumber(index, int.class).intValue();
+	}
+	
+	public int getInt(String columnName)
+	{
+		return this.getInt(this.indexOf(columnName));
+	}
+	
+	public int getInt(ColumnRef column)
+	{
+		return this.getInt(column.indexIn(this.schema));
+	}
+	
+	/**
+	 * Gets the cell of a long or integer column without boxing, zero if it is {@code null}.
+	 * Object columns holding a {@link Number} are converted.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public long getLong(int index)
+	{
+		Class<?> storageType = this.schema.getStorageType(index);
+		
+		if(storageType == long.class || storageType == int.class)
+		{
+			return this.primitives[this.schema.getSlot(index)];
+		}
+		
+		return this.getNumber(index, long.class).longValue();
+	}
+	
+	public long getLong(String columnName)
+	{
+		return this.getLong(this.indexOf(columnName));
+	}
+	
+	public long getLong(ColumnRef column)
+	{
+		return this.getLong(column.indexIn(this.schema));
+	}
+	
+	/**
+	 * Gets the cell of a numeric column without boxing, zero if it is {@code null}.
+	 * Object columns holding a {@link Number} are converted.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public double getDouble(int index)
+	{
+		Class<?> storageType = this.schema.getStorageType(index);
+		
+		if(storageType == double.class)
+		{
+			return Double.longBitsToDouble(this.primitives[this.schema.getSlot(index)]);
+		}
+		else if(storageType == long.class || storageType == int.class)
+		{
+			return this.primitives[this.schema.getSlot(index)];
+		}
+		
+		return this.getNumber(index, double.class).doubleValue();
+	}
+	
+	public double getDouble(String columnName)
+	{
+		return this.getDouble(this.indexOf(columnName));
+	}
+	
+	public double getDouble(ColumnRef column)
+	{
+		return this.getDouble(column.indexIn(this.schema));
+	}
+	
+	/**
+	 * Gets the cell of a boolean column without boxing, {@code false} if it is {@code null}.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public boolean getBoolean(int index)
+	{
+		Class<?> storageType = this.schema.getStorageType(index);
+		
+		if(storageType == boolean.class)
+		{
+			return this.primitives[this.schema.getSlot(index)] != 0L;
+		}
+		
+		if(storageType == Object.class)
+		{
+			Object value = this.objects[this.schema.getSlot(index)];
+			
+			if(value == null)
+			{
+				return false;
+			}
+			
+			if(value instanceof Boolean)
+			{
+				return (Boolean) value;
+			}
+		}
+		
+		throw this.mismatch(index, boolean.class);
+	}
+	
+	public boolean getBoolean(String columnName)
+	{
+		return this.getBoolean(this.indexOf(columnName));
+	}
+	
+	public boolean getBoolean(ColumnRef column)
+	{
+		return this.getBoolean(column.indexIn(this.schema));
+	}
+	
+	Number getNumber(int index, Class<?> requested)
+	{
+		if(this.schema.getStorageType(index) == Object.class)
+		{
+			Object value = this.objects[this.schema.getSlot(index)];
+			
+			if(value == null)
+			{
+				return 0;
+			}
+			
+			if(value instanceof Number)
+			{
+				return (Number) value;
+			}
+		}
+		
+		throw this.mismatch(index, requested);
+	}
+	
+	ClassCastException mismatch(int index, Class<?> requested)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.COLUMN_TYPE_MISMATCH_ERROR, this.schema.getType(index).getName(), requested.getName());
+		
+		return new ClassCastException(errorMessage);
+	}
+	
+	/**
+	 * Boxes the cell to the type of the column in the schema.
+	 */
+	Object getValue(int index)
+	{
+		Class<?> storageType = this.schema.getStorageType(index);
+		
+		int slot = this.schema.getSlot(index);
+		
+		if(storageType == Object.class)
+		{
+			return this.objects[slot];
+		}
+		
+		if(this.isNull(index))
+		{
+			return null;
+		}
+		
+		long bits = this.primitives[slot];
+		
+		Class<?> type = this.schema.getType(index);
+		
+		if(type == Integer.class) return (int) bits;
+		if(type == Long.class) return bits;
+		if(type == Double.class) return Double.longBitsToDouble(bits);
+		if(type == Boolean.class) return bits != 0L;
+		if(type == Short.class) return (short) bits;
+		if(type == Byte.class) return (byte) bits;
+		
+		return (float) Double.longBitsToDouble(bits);
+	}
+	
+	int indexOf(String columnName)
+	{
+		Integer index = this.schema.indexOf(columnName);
+		
+		if(index == null)
+		{
+			String tableName = this.schema.getTableName();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, columnName, tableName);
+			
+			throw new ObjectNotFoundException(errorMessage);
+		}
+		
+		return index;
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringJoiner j = new StringJoiner(" | ");
+		for(int i = 0; i < this.schema.size(); i++) j.add(String.valueOf(this.getValue(i)));
+		return j.toString();
+	}
+	
+}
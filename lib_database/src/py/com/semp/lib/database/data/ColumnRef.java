@@ -0,0 +1,97 @@
+package py.com.semp.lib.database.data;
+
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.ObjectNotFoundException;
+
+/**
+ * A column of a {@link TypedSchema} resolved once by name, for reading many rows by name
+ * without looking the name up on every access.
+ *
+ * <pre>{@code
+ * ColumnRef amount = schema.column("amount");
+ * ColumnRef status = schema.columnIgnoreCase("STATUS");
+ *
+ * for(TypedRowLite row : rows)
+ * {
+ *     total += row.getDouble(amount);
+ * }
+ * }</pre>
+ *
+ * <p>
+ * A reference can also be used with rows of another schema instance; the column is then looked up
+ * by its name in that schema. Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public final class ColumnRef
+{
+	private final TypedSchema schema;
+	private final String name;
+	private final int index;
+	
+	ColumnRef(TypedSchema schema, String name, int index)
+	{
+		super();
+		
+		this.schema = schema;
+		this.name = name;
+		this.index = index;
+	}
+	
+	/**
+	 * Gets the schema the column was resolved in.
+	 */
+	public TypedSchema getSchema()
+	{
+		return this.schema;
+	}
+	
+	/**
+	 * Gets the name of the column as reported by the schema.
+	 */
+	public String getName()
+	{
+		return this.name;
+	}
+	
+	/**
+	 * Gets the index of the column in its schema.
+	 */
+	public int getIndex()
+	{
+		return this.index;
+	}
+	
+	/**
+	 * Gets the index of the column in the given schema, a plain field read when it is the schema the column
+	 * was resolved in.
+	 *
+	 * @throws ObjectNotFoundException if the schema has no column with this name.
+	 */
+	public int indexIn(TypedSchema schema)
+	{
+		if(schema == this.schema)
+		{
+			return this.index;
+		}
+		
+		Integer index = schema.indexOf(this.name);
+		
+		if(index == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, this.name, schema.getTableName());
+			
+			throw new ObjectNotFoundException(errorMessage);
+		}
+		
+		return index;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.name + "[" + this.index + "]";
+	}
+}
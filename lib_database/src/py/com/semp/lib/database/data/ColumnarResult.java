@@ -0,0 +1,988 @@
+package py.com.semp.lib.database.data;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.ObjectNotFoundException;
+
+/**
+ * A tabular result stored by column, sharing one {@link TypedSchema}.
+ * <p>
+ * Integer, short and byte columns are stored in {@code int[]}, long columns in {@code long[]}, double and float
+ * columns in {@code double[]} and boolean columns in {@code boolean[]}, with a bitmap marking the {@code null} cells;
+ * any other type is kept as objects. A numeric cell takes 4 or 8 bytes instead of a boxed value per row as
+ * in {@link TypedRowLite}, which matters for large analytical reads.
+ * </p>
+ * <p>
+ * Columns grow in fixed-size chunks, so filling never copies the values already stored, and the null bitmap of a
+ * chunk is only allocated once it holds a {@code null}. Instances are filled with a {@link Builder} and are
+ * immutable afterwards.
+ * </p>
+ *
+ * <pre>{@code
+ * ColumnarResult result = RowReader.compile(resultSet).readColumnar(resultSet);
+ *
+ * for(int row = 0; row < result.size(); row++)
+ * {
+ *     if(!result.isNull(row, 2))
+ *     {
+ *         total += result.getDouble(row, 2);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Sergio Morel
+ */
+public final class ColumnarResult
+{
+	private static final int CHUNK_SHIFT = 12;
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	
+	private final TypedSchema schema;
+	private final Column[] columns;
+	private final int size;
+	
+	private ColumnarResult(TypedSchema schema, Column[] columns, int size)
+	{
+		super();
+		
+		this.schema = schema;
+		this.columns = columns;
+		this.size = size;
+	}
+	
+	/**
+	 * Creates a builder for a result with the given schema.
+	 *
+	 * @param schema The schema of the rows.
+	 * @return an empty builder.
+	 * @throws NullPointerException if {@code schema} is {@code null}.
+	 */
+	public static Builder builder(TypedSchema schema)
+	{
+		if(schema == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[schema] ");
+			methodName.append(ColumnarResult.class.getSimpleName());
+			methodName.append("::builder(");
+			methodName.append(TypedSchema.class.getSimpleName());
+			methodName.append(" schema)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		return new Builder(schema);
+	}
+	
+	public TypedSchema getSchema()
+	{
+		return this.schema;
+	}
+	
+	/**
+	 * Gets the number of rows.
+	 */
+	public int size()
+	{
+		return this.size;
+	}
+	
+	/**
+	 * Gets the index of the named column.
+	 *
+	 * @throws ObjectNotFoundException if the schema has no such column.
+	 */
+	public int indexOf(String columnName)
+	{
+		Integer index = this.schema.indexOf(columnName);
+		
+		if(index == null)
+		{
+			String tableName = this.schema.getTableName();
+			
+			String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, columnName, tableName);
+			
+			throw new ObjectNotFoundException(errorMessage);
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Returns whether the cell is {@code null}.
+	 */
+	public boolean isNull(int row, int column)
+	{
+		return this.columns[column].isNull(this.checkRow(row));
+	}
+	
+	/**
+	 * Gets the cell of an int, short or byte column, zero if it is {@code null}.
+	 * Object columns holding a {@link Number} are converted.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public int getInt(int row, int column)
+	{
+		return this.columns[column].getInt(this.checkRow(row));
+	}
+	
+	/**
+	 * Gets the cell of a long or int column, zero if it is {@code null}.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public long getLong(int row, int column)
+	{
+		return this.columns[column].getLong(this.checkRow(row));
+	}
+	
+	/**
+	 * Gets the cell of a numeric primitive column, zero if it is {@code null}.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public double getDouble(int row, int column)
+	{
+		return this.columns[column].getDouble(this.checkRow(row));
+	}
+	
+	/**
+	 * Gets the cell of a boolean column, {@code false} if it is {@code null}.
+	 *
+	 * @throws ClassCastException if the column holds another type.
+	 */
+	public boolean getBoolean(int row, int column)
+	{
+		return this.columns[column].getBoolean(this.checkRow(row));
+	}
+	
+	/**
+	 * Gets the cell boxed to the type of the column in the schema, {@code null} if it is {@code null}.
+	 */
+	public <T> T get(int row, int column)
+	{
+		@SuppressWarnings("unchecked")
+		T value = (T) this.columns[column].get(this.checkRow(row));
+		
+		return value;
+	}
+	
+	/**
+	 * Gets a view of the given row. Views are not copies and hold no values.
+	 */
+	public Row getRow(int row)
+	{
+		return new Row(this.checkRow(row));
+	}
+	
+	/**
+	 * Copies the given row into a {@link TypedRowLite}.
+	 */
+	public TypedRowLite toTypedRowLite(int row)
+	{
+		this.checkRow(row);
+		
+		TypedRowLite.Builder builder = TypedRowLite.builder(this.schema);
+		
+		for(int i = 0; i < this.columns.length; i++)
+		{
+			this.columns[i].copyTo(row, i, builder);
+		}
+		
+		return builder.build();
+	}
+	
+	private int checkRow(int row)
+	{
+		if(row < 0 || row >= this.size)
+		{
+			throw new IndexOutOfBoundsException(row);
+		}
+		
+		return row;
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" [").append(this.size).append(" x ").append(this.columns.length).append("] ");
+		sb.append(String.join(", ", this.schema.getNames()));
+		
+		return sb.toString();
+	}
+	
+	/**
+	 * A view of one row of a {@link ColumnarResult}, reading the columns on demand.
+	 */
+	public final class Row
+	{
+		private final int row;
+		
+		private Row(int row)
+		{
+			this.row = row;
+		}
+		
+		/**
+		 * Gets the index of the row in the result.
+		 */
+		public int getIndex()
+		{
+			return this.row;
+		}
+		
+		public boolean isNull(int column)
+		{
+			return ColumnarResult.this.columns[column].isNull(this.row);
+		}
+		
+		public int getInt(int column)
+		{
+			return ColumnarResult.this.columns[column].getInt(this.row);
+		}
+		
+		public long getLong(int column)
+		{
+			return ColumnarResult.this.columns[column].getLong(this.row);
+		}
+		
+		public double getDouble(int column)
+		{
+			return ColumnarResult.this.columns[column].getDouble(this.row);
+		}
+		
+		public boolean getBoolean(int column)
+		{
+			return ColumnarResult.this.columns[column].getBoolean(this.row);
+		}
+		
+		public <T> T get(int column)
+		{
+			@SuppressWarnings("unchecked")
+			T value = (T) ColumnarResult.this.columns[column].get(this.row);
+			
+			return value;
+		}
+		
+		public <T> T get(String columnName)
+		{
+			return this.get(ColumnarResult.this.indexOf(columnName));
+		}
+		
+		public <T> T get(ColumnRef column)
+		{
+			return this.get(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		public boolean isNull(ColumnRef column)
+		{
+			return this.isNull(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		public int getInt(ColumnRef column)
+		{
+			return this.getInt(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		public long getLong(ColumnRef column)
+		{
+			return this.getLong(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		public double getDouble(ColumnRef column)
+		{
+			return this.getDouble(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		public boolean getBoolean(ColumnRef column)
+		{
+			return this.getBoolean(column.indexIn(ColumnarResult.this.schema));
+		}
+		
+		@Override
+		public String toString()
+		{
+			StringJoiner j = new StringJoiner(" | ");
+			for(Column column : ColumnarResult.this.columns) j.add(String.valueOf(column.get(this.row)));
+			return j.toString();
+		}
+	}
+	
+	/**
+	 * Fills a {@link ColumnarResult} one row at a time.
+	 * <p>
+	 * The cells of the current row are set by column, then {@link #nextRow()} moves to the next row.
+	 * A cell may be set more than once, the last value wins, and cells not set before {@link #nextRow()} are {@code null}.
+	 * </p>
+	 */
+	public static final class Builder implements RowWriter
+	{
+		private final TypedSchema schema;
+		private final Column[] columns;
+		private final long[] written;
+		private int size;
+		private int capacity;
+		
+		private Builder(TypedSchema schema)
+		{
+			this.schema = schema;
+			this.columns = new Column[schema.size()];
+			this.written = new long[(schema.size() + 63) >>> 6];
+			
+			for(int i = 0; i < this.columns.length; i++)
+			{
+				this.columns[i] = Column.of(schema.getStorageType(i), schema.getType(i));
+			}
+			
+			this.ensureCapacity();
+		}
+		
+		@Override
+		public Builder setInt(int column, int value)
+		{
+			this.columns[column].setInt(this.size, value);
+			
+			this.setWritten(column);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setLong(int column, long value)
+		{
+			this.columns[column].setLong(this.size, value);
+			
+			this.setWritten(column);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setDouble(int column, double value)
+		{
+			this.columns[column].setDouble(this.size, value);
+			
+			this.setWritten(column);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setBoolean(int column, boolean value)
+		{
+			this.columns[column].setBoolean(this.size, value);
+			
+			this.setWritten(column);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setObject(int column, Object value)
+		{
+			if(value == null)
+			{
+				return this.setNull(column);
+			}
+			
+			this.columns[column].setObject(this.size, value);
+			
+			this.setWritten(column);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setNull(int column)
+		{
+			this.columns[column].setNull(this.size);
+			
+			this.written[column >>> 6] |= 1L << column;
+			
+			return this;
+		}
+		
+		/**
+		 * Completes the current row, setting to {@code null} the cells that were not set.
+		 */
+		public Builder nextRow()
+		{
+			for(int i = 0; i < this.columns.length; i++)
+			{
+				if((this.written[i >>> 6] & (1L << i)) == 0L)
+				{
+					this.columns[i].setNull(this.size);
+				}
+			}
+			
+			Arrays.fill(this.written, 0L);
+			
+			this.size++;
+			
+			this.ensureCapacity();
+			
+			return this;
+		}
+		
+		/**
+		 * Gets the number of completed rows.
+		 */
+		public int size()
+		{
+			return this.size;
+		}
+		
+		/**
+		 * Creates the result with the completed rows. The builder must not be used afterwards.
+		 */
+		public ColumnarResult build()
+		{
+			return new ColumnarResult(this.schema, this.columns, this.size);
+		}
+		
+		/**
+		 * Records a value set in the current row, clearing a {@code null} previously set in the same cell.
+		 */
+		private void setWritten(int column)
+		{
+			this.columns[column].clearNull(this.size);
+			
+			this.written[column >>> 6] |= 1L << column;
+		}
+		
+		private void ensureCapacity()
+		{
+			if(this.size < this.capacity)
+			{
+				return;
+			}
+			
+			int chunks = (this.capacity >> CHUNK_SHIFT) + 1;
+			
+			for(Column column : this.columns)
+			{
+				column.grow(chunks);
+			}
+			
+			this.capacity = chunks << CHUNK_SHIFT;
+		}
+	}
+	
+	/**
+	 * The chunked storage of one column.
+	 */
+	private abstract static class Column
+	{
+		final Class<?> type;
+		private long[][] nulls = new long[0][];
+		
+		private Column(Class<?> type)
+		{
+			this.type = type;
+		}
+		
+		private static Column of(Class<?> storageType, Class<?> type)
+		{
+			if(storageType == int.class)
+			{
+				return new IntColumn(type);
+			}
+			else if(storageType == long.class)
+			{
+				return new LongColumn(type);
+			}
+			else if(storageType == double.class)
+			{
+				return new DoubleColumn(type);
+			}
+			else if(storageType == boolean.class)
+			{
+				return new BooleanColumn(type);
+			}
+			
+			return new ObjectColumn(type);
+		}
+		
+		void grow(int chunks)
+		{
+			this.nulls = Arrays.copyOf(this.nulls, chunks);
+		}
+		
+		boolean isNull(int row)
+		{
+			long[] bitmap = this.nulls[row >>> CHUNK_SHIFT];
+			
+			return bitmap != null && (bitmap[(row & CHUNK_MASK) >>> 6] & (1L << row)) != 0L;
+		}
+		
+		void setNull(int row)
+		{
+			int chunk = row >>> CHUNK_SHIFT;
+			
+			if(this.nulls[chunk] == null)
+			{
+				this.nulls[chunk] = new long[CHUNK_SIZE >>> 6];
+			}
+			
+			this.nulls[chunk][(row & CHUNK_MASK) >>> 6] |= 1L << row;
+		}
+		
+		void clearNull(int row)
+		{
+			long[] bitmap = this.nulls[row >>> CHUNK_SHIFT];
+			
+			if(bitmap != null)
+			{
+				bitmap[(row & CHUNK_MASK) >>> 6] &= ~(1L << row);
+			}
+		}
+		
+		/**
+		 * Copies a cell to the same column of the writer, without boxing primitive values.
+		 */
+		void copyTo(int row, int column, RowWriter writer)
+		{
+			if(this.isNull(row))
+			{
+				writer.setNull(column);
+			}
+			else
+			{
+				this.copyValueTo(row, column, writer);
+			}
+		}
+		
+		abstract void copyValueTo(int row, int column, RowWriter writer);
+		
+		final Object get(int row)
+		{
+			return this.isNull(row) ? null : this.getValue(row);
+		}
+		
+		abstract Object getValue(int row);
+		
+		abstract void setObject(int row, Object value);
+		
+		int getInt(int row)
+		{
+			throw this.mismatch(int.class);
+		}
+		
+		long getLong(int row)
+		{
+			throw this.mismatch(long.class);
+		}
+		
+		double getDouble(int row)
+		{
+			throw this.mismatch(double.class);
+		}
+		
+		boolean getBoolean(int row)
+		{
+			throw this.mismatch(boolean.class);
+		}
+		
+		void setInt(int row, int value)
+		{
+			throw this.mismatch(int.class);
+		}
+		
+		void setLong(int row, long value)
+		{
+			throw this.mismatch(long.class);
+		}
+		
+		void setDouble(int row, double value)
+		{
+			throw this.mismatch(double.class);
+		}
+		
+		void setBoolean(int row, boolean value)
+		{
+			throw this.mismatch(boolean.class);
+		}
+		
+		ClassCastException mismatch(Class<?> requested)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.COLUMN_TYPE_MISMATCH_ERROR, this.type.getName(), requested.getName());
+			
+			return new ClassCastException(errorMessage);
+		}
+	}
+	
+	private static final class IntColumn extends Column
+	{
+		private int[][] chunks = new int[0][];
+		
+		private IntColumn(Class<?> type)
+		{
+			super(type);
+		}
+		
+		@Override
+		void grow(int chunks)
+		{
+			super.grow(chunks);
+			
+			int previous = this.chunks.length;
+			
+			this.chunks = Arrays.copyOf(this.chunks, chunks);
+			
+			for(int i = previous; i < chunks; i++)
+			{
+				this.chunks[i] = new int[CHUNK_SIZE];
+			}
+		}
+		
+		@Override
+		int getInt(int row)
+		{
+			return this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+		}
+		
+		@Override
+		long getLong(int row)
+		{
+			return this.getInt(row);
+		}
+		
+		@Override
+		double getDouble(int row)
+		{
+			return this.getInt(row);
+		}
+		
+		@Override
+		void setInt(int row, int value)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		}
+		
+		@Override
+		void copyValueTo(int row, int column, RowWriter writer)
+		{
+			writer.setInt(column, this.getInt(row));
+		}
+		
+		@Override
+		Object getValue(int row)
+		{
+			int value = this.getInt(row);
+			
+			if(this.type == Short.class)
+			{
+				return (short) value;
+			}
+			else if(this.type == Byte.class)
+			{
+				return (byte) value;
+			}
+			
+			return value;
+		}
+		
+		@Override
+		void setObject(int row, Object value)
+		{
+			this.setInt(row, ((Number) value).intValue());
+		}
+	}
+	
+	private static final class LongColumn extends Column
+	{
+		private long[][] chunks = new long[0][];
+		
+		private LongColumn(Class<?> type)
+		{
+			super(type);
+		}
+		
+		@Override
+		void grow(int chunks)
+		{
+			super.grow(chunks);
+			
+			int previous = this.chunks.length;
+			
+			this.chunks = Arrays.copyOf(this.chunks, chunks);
+			
+			for(int i = previous; i < chunks; i++)
+			{
+				this.chunks[i] = new long[CHUNK_SIZE];
+			}
+		}
+		
+		@Override
+		long getLong(int row)
+		{
+			return this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+		}
+		
+		@Override
+		double getDouble(int row)
+		{
+			return this.getLong(row);
+		}
+		
+		@Override
+		void setLong(int row, long value)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		}
+		
+		@Override
+		void copyValueTo(int row, int column, RowWriter writer)
+		{
+			writer.setLong(column, this.getLong(row));
+		}
+		
+		@Override
+		Object getValue(int row)
+		{
+			return this.getLong(row);
+		}
+		
+		@Override
+		void setObject(int row, Object value)
+		{
+			this.setLong(row, ((Number) value).longValue());
+		}
+	}
+	
+	private static final class DoubleColumn extends Column
+	{
+		private double[][] chunks = new double[0][];
+		
+		private DoubleColumn(Class<?> type)
+		{
+			super(type);
+		}
+		
+		@Override
+		void grow(int chunks)
+		{
+			super.grow(chunks);
+			
+			int previous = this.chunks.length;
+			
+			this.chunks = Arrays.copyOf(this.chunks, chunks);
+			
+			for(int i = previous; i < chunks; i++)
+			{
+				this.chunks[i] = new double[CHUNK_SIZE];
+			}
+		}
+		
+		@Override
+		double getDouble(int row)
+		{
+			return this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+		}
+		
+		@Override
+		void setDouble(int row, double value)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		}
+		
+		@Override
+		void copyValueTo(int row, int column, RowWriter writer)
+		{
+			writer.setDouble(column, this.getDouble(row));
+		}
+		
+		@Override
+		Object getValue(int row)
+		{
+			double value = this.getDouble(row);
+			
+			if(this.type == Float.class)
+			{
+				return (float) value;
+			}
+			
+			return value;
+		}
+		
+		@Override
+		void setObject(int row, Object value)
+		{
+			this.setDouble(row, ((Number) value).doubleValue());
+		}
+	}
+	
+	private static final class BooleanColumn extends Column
+	{
+		private boolean[][] chunks = new boolean[0][];
+		
+		private BooleanColumn(Class<?> type)
+		{
+			super(type);
+		}
+		
+		@Override
+		void grow(int chunks)
+		{
+			super.grow(chunks);
+			
+			int previous = this.chunks.length;
+			
+			this.chunks = Arrays.copyOf(this.chunks, chunks);
+			
+			for(int i = previous; i < chunks; i++)
+			{
+				this.chunks[i] = new boolean[CHUNK_SIZE];
+			}
+		}
+		
+		@Override
+		boolean getBoolean(int row)
+		{
+			return this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+		}
+		
+		@Override
+		void setBoolean(int row, boolean value)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		}
+		
+		@Override
+		void copyValueTo(int row, int column, RowWriter writer)
+		{
+			writer.setBoolean(column, this.getBoolean(row));
+		}
+		
+		@Override
+		Object getValue(int row)
+		{
+			return this.getBoolean(row);
+		}
+		
+		@Override
+		void setObject(int row, Object value)
+		{
+			this.setBoolean(row, (Boolean) value);
+		}
+	}
+	
+	private static final class ObjectColumn extends Column
+	{
+		private Object[][] chunks = new Object[0][];
+		
+		private ObjectColumn(Class<?> type)
+		{
+			super(type);
+		}
+		
+		@Override
+		void grow(int chunks)
+		{
+			super.grow(chunks);
+			
+			int previous = this.chunks.length;
+			
+			this.chunks = Arrays.copyOf(this.chunks, chunks);
+			
+			for(int i = previous; i < chunks; i++)
+			{
+				this.chunks[i] = new Object[CHUNK_SIZE];
+			}
+		}
+		
+		@Override
+		boolean isNull(int row)
+		{
+			return this.getValue(row) == null;
+		}
+		
+		@Override
+		void setNull(int row)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = null;
+		}
+		
+		@Override
+		Object getValue(int row)
+		{
+			return this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+		}
+		
+		@Override
+		void copyValueTo(int row, int column, RowWriter writer)
+		{
+			writer.setObject(column, this.getValue(row));
+		}
+		
+		@Override
+		void setObject(int row, Object value)
+		{
+			this.chunks[row >>> CHUNK_SHIFT][row & CHUNK_MASK] = value;
+		}
+		
+		@Override
+		int getInt(int row)
+		{
+			return this.getNumber(row, int.class).intValue();
+		}
+		
+		@Override
+		long getLong(int row)
+		{
+			return this.getNumber(row, long.class).longValue();
+		}
+		
+		@Override
+		double getDouble(int row)
+		{
+			return this.getNumber(row, double.class).doubleValue();
+		}
+		
+		@Override
+		boolean getBoolean(int row)
+		{
+			Object value = this.getValue(row);
+			
+			if(value == null)
+			{
+				return false;
+			}
+			
+			if(value instanceof Boolean)
+			{
+				return (Boolean) value;
+			}
+			
+			throw this.mismatch(boolean.class);
+		}
+		
+		private Number getNumber(int row, Class<?> requested)
+		{
+			Object value = this.getValue(row);
+			
+			if(value == null)
+			{
+				return 0;
+			}
+			
+			if(value instanceof Number)
+			{
+				return (Number) value;
+			}
+			
+			throw this.mismatch(requested);
+		}
+	}
+}
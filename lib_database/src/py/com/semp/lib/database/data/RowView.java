@@ -0,0 +1,216 @@
+package py.com.semp.lib.database.data;
+
+import java.util.Arrays;
+
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+
+/**
+ * A reusable, mutable row sharing one {@link TypedSchema}, refilled for every row of a streaming read.
+ * <p>
+ * It has the same accessors as {@link TypedRowLite}, and the same packed storage: refilling it with primitive
+ * values allocates nothing, so consumers that only aggregate or forward numeric columns read a whole result
+ * without a per-row allocation. The values are only valid until the view is refilled, usually the end of the
+ * callback that received it; rows to keep must be copied with {@link #copy()}.
+ * </p>
+ *
+ * <pre>{@code
+ * try(QueryResult result = connection.openQuery("SELECT id, amount FROM payments"))
+ * {
+ *     result.forEachView(row -> total += row.getDouble(1));
+ * }
+ * }</pre>
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * @author Sergio Morel
+ */
+public final class RowView extends AbstractTypedRow implements RowWriter
+{
+	/**
+	 * Creates an empty view for rows of the given schema.
+	 *
+	 * @param schema The schema of the rows.
+	 * @throws NullPointerException if {@code schema} is {@code null}.
+	 */
+	public RowView(TypedSchema schema)
+	{
+		super(checkSchema(schema), new long[schema.getPrimitiveCount()], new Object[schema.getObjectCount()], null);
+	}
+	
+	private static TypedSchema checkSchema(TypedSchema schema)
+	{
+		if(schema == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[schema] ");
+			methodName.append(RowView.class.getSimpleName());
+			methodName.append("::");
+			methodName.append(RowView.class.getSimpleName());
+			methodName.append("(");
+			methodName.append(TypedSchema.class.getSimpleName());
+			methodName.append(" schema)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		return schema;
+	}
+	
+	/**
+	 * Clears every cell, to fill the view with the next row.
+	 *
+	 * @return this view.
+	 */
+	public RowView clear()
+	{
+		Arrays.fill(this.primitives, 0L);
+		Arrays.fill(this.objects, null);
+		
+		if(this.nulls != null)
+		{
+			Arrays.fill(this.nulls, 0L);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Copies the current values into an immutable row that can be kept after the view is refilled.
+	 */
+	public TypedRowLite copy()
+	{
+		RowView copy = new RowView(this.schema);
+		
+		System.arraycopy(this.primitives, 0, copy.primitives, 0, this.primitives.length);
+		System.arraycopy(this.objects, 0, copy.objects, 0, this.objects.length);
+		
+		if(this.nulls != null)
+		{
+			copy.nulls = this.nulls.clone();
+		}
+		
+		return new TypedRowLite(copy);
+	}
+	
+	/**
+	 * Hands the current storage over to a new row and starts again with empty storage.
+	 */
+	TypedRowLite detach()
+	{
+		TypedRowLite row = new TypedRowLite(this);
+		
+		this.primitives = new long[this.schema.getPrimitiveCount()];
+		this.objects = new Object[this.schema.getObjectCount()];
+		this.nulls = null;
+		
+		return row;
+	}
+	
+	@Override
+	public RowView setInt(int column, int value)
+	{
+		this.setPrimitive(column, int.class, value);
+		
+		return this;
+	}
+	
+	@Override
+	public RowView setLong(int column, long value)
+	{
+		this.setPrimitive(column, long.class, value);
+		
+		return this;
+	}
+	
+	@Override
+	public RowView setDouble(int column, double value)
+	{
+		this.setPrimitive(column, double.class, Double.doubleToRawLongBits(value));
+		
+		return this;
+	}
+	
+	@Override
+	public RowView setBoolean(int column, boolean value)
+	{
+		this.setPrimitive(column, boolean.class, value ? 1L : 0L);
+		
+		return this;
+	}
+	
+	@Override
+	public RowView setObject(int column, Object value)
+	{
+		if(value == null)
+		{
+			return this.setNull(column);
+		}
+		
+		Class<?> storageType = this.schema.getStorageType(column);
+		
+		if(storageType == Object.class)
+		{
+			this.objects[this.schema.getSlot(column)] = value;
+			
+			return this;
+		}
+		
+		if(storageType == int.class)
+		{
+			return this.setInt(column, ((Number) value).intValue());
+		}
+		else if(storageType == long.class)
+		{
+			return this.setLong(column, ((Number) value).longValue());
+		}
+		else if(storageType == double.class)
+		{
+			return this.setDouble(column, ((Number) value).doubleValue());
+		}
+		
+		return this.setBoolean(column, (Boolean) value);
+	}
+	
+	@Override
+	public RowView setNull(int column)
+	{
+		if(this.schema.getStorageType(column) == Object.class)
+		{
+			this.objects[this.schema.getSlot(column)] = null;
+			
+			return this;
+		}
+		
+		if(this.nulls == null)
+		{
+			this.nulls = new long[(this.schema.size() + 63) >>> 6];
+		}
+		
+		this.nulls[column >>> 6] |= 1L << column;
+		
+		this.primitives[this.schema.getSlot(column)] = 0L;
+		
+		return this;
+	}
+	
+	private void setPrimitive(int column, Class<?> storageType, long bits)
+	{
+		if(this.schema.getStorageType(column) != storageType)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.COLUMN_TYPE_MISMATCH_ERROR, this.schema.getType(column).getName(), storageType.getName());
+			
+			throw new ClassCastException(errorMessage);
+		}
+		
+		this.primitives[this.schema.getSlot(column)] = bits;
+		
+		if(this.nulls != null)
+		{
+			this.nulls[column >>> 6] &= ~(1L << column);
+		}
+	}
+}
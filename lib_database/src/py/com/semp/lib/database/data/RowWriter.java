@@ -0,0 +1,28 @@
+package py.com.semp.lib.database.data;
+
+/**
+ * Receives the cells of a row by column index, with primitive setters that do not box the values.
+ *
+ * @author Sergio Morel
+ * @see TypedRowLite.Builder
+ * @see ColumnarResult.Builder
+ */
+public interface RowWriter
+{
+	RowWriter setInt(int column, int value);
+	
+	RowWriter setLong(int column, long value);
+	
+	RowWriter setDouble(int column, double value);
+	
+	RowWriter setBoolean(int column, boolean value);
+	
+	/**
+	 * Sets a cell from a boxed value, unboxing it for primitive columns.
+	 *
+	 * @throws ClassCastException if the value does not match the type of the column.
+	 */
+	RowWriter setObject(int column, Object value);
+	
+	RowWriter setNull(int column);
+}
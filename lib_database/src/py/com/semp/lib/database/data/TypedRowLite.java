@@ -4,18 +4,37 @@ import java.util.StringJoiner;
 
 import py.com.semp.lib.database.internal.MessageUtil;
 import py.com.semp.lib.database.internal.Messages;
-import py.com.semp.lib.utilidades.exceptions.ObjectNotFoundException;
 
 /**
- * A single row backed by an Object[] plus a shared {@link TypedSchema}.
+ * A single row backed by a shared {@link TypedSchema}.
  * No per-row column name storage.
+ * <p>
+ * Columns with a primitive storage type (see {@link TypedSchema#getStorageType(int)}) are packed into a
+ * {@code long[]} with a null bitmap, the others are kept in an {@code Object[]}. The primitive accessors
+ * ({@link #getInt(int)}, {@link #getLong(int)}, {@link #getDouble(int)}, {@link #getBoolean(int)}) never box,
+ * and return zero or {@code false} for {@code null} cells, check {@link #isNull(int)} to tell them apart.
+ * </p>
+ * <p>
+ * Access by name looks the name up on every call; when reading many rows, resolve a {@link ColumnRef}
+ * once with {@link TypedSchema#column(String)} instead.
+ * </p>
  */
-public final class TypedRowLite
+public final class TypedRowLite extends AbstractTypedRow
 {
-	private final TypedSchema schema;
-	private final Object[] values;
-	
 	public TypedRowLite(TypedSchema schema, Object[] values)
+	{
+		this(pack(schema, values));
+	}
+	
+	/**
+	 * Creates a row taking ownership of the storage of the given view.
+	 */
+	TypedRowLite(RowView view)
+	{
+		super(view.schema, view.primitives, view.objects, view.nulls);
+	}
+	
+	private static RowView pack(TypedSchema schema, Object[] values)
 	{
 		if(schema == null || values == null)
 		{
@@ -27,9 +46,9 @@ public final class TypedRowLite
 			if(values == null) joiner.add("values");
 			
 			methodName.append("[").append(joiner.toString()).append("] ");
-			methodName.append(this.getClass().getSimpleName());
+			methodName.append(TypedRowLite.class.getSimpleName());
 			methodName.append("::");
-			methodName.append(this.getClass().getSimpleName());
+			methodName.append(TypedRowLite.class.getSimpleName());
 			methodName.append("(");
 			methodName.append(TypedSchema.class.getSimpleName());
 			methodName.append("schema, Object[] values)");
@@ -39,91 +58,115 @@ public final class TypedRowLite
 			throw new NullPointerException(errorMessage);
 		}
 		
-		this.schema = schema;
-		this.values = values;
-		
 		if(values.length != schema.size())
 		{
 			throw new IllegalArgumentException("values.length != schema.size()");
 		}
-	}
-	
-	public TypedSchema getSchema()
-	{
-		return this.schema;
-	}
-	
-	public int size()
-	{
-		return values.length;
-	}
-	
-	public <T> T get(int index)
-	{
-		Class<?> type = this.schema.getType(index);
 		
-		@SuppressWarnings("unchecked")
-		T value = (T) type.cast(values[index]);
+		RowView view = new RowView(schema);
+		
+		for(int i = 0; i < values.length; i++)
+		{
+			view.setObject(i, values[i]);
+		}
 		
-		return value;
+		return view;
 	}
 	
-	public <T> T get(String columnName)
+	/**
+	 * Creates a builder for a row with the given schema, setting primitive cells without boxing them.
+	 *
+	 * @param schema The schema of the row.
+	 * @return an empty builder.
+	 * @throws NullPointerException if {@code schema} is {@code null}.
+	 */
+	public static Builder builder(TypedSchema schema)
 	{
-		Integer index = this.schema.indexOf(columnName);
-		
-		if(index == null)
+		if(schema == null)
 		{
-			String tableName = this.schema.getTableName();
+			StringBuilder methodName = new StringBuilder();
+			
+			methodName.append("[schema] ");
+			methodName.append(TypedRowLite.class.getSimpleName());
+			methodName.append("::builder(");
+			methodName.append(TypedSchema.class.getSimpleName());
+			methodName.append(" schema)");
 			
-			String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, columnName, tableName);
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
 			
-			throw new ObjectNotFoundException(errorMessage);
+			throw new NullPointerException(errorMessage);
 		}
 		
-		return this.get(index);
+		return new Builder(schema);
 	}
 	
-	public <T> T get(int index, Class<T> type)
+	/**
+	 * Fills the cells of one {@link TypedRowLite}. Cells not set read as {@code null} in object columns
+	 * and as zero or {@code false} in primitive columns.
+	 */
+	public static final class Builder implements RowWriter
 	{
-		Object value = values[index];
+		private final RowView view;
 		
-		if(value == null)
+		private Builder(TypedSchema schema)
 		{
-			return null;
+			this.view = new RowView(schema);
 		}
 		
-		return type.cast(value);
-	}
-	
-	public <T> T get(String columnName, Class<T> type)
-	{
-		Integer index = this.schema.indexOf(columnName);
+		@Override
+		public Builder setInt(int column, int value)
+		{
+			this.view.setInt(column, value);
+			
+			return this;
+		}
+		
+		@Override
+		public Builder setLong(int column, long value)
+		{
+			this.view.setLong(column, value);
+			
+			return this;
+		}
 		
-		if(index == null)
+		@Override
+		public Builder setDouble(int column, double value)
 		{
-			String tableName = this.schema.getTableName();
+			this.view.setDouble(column, value);
 			
-			String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, columnName, tableName);
+			return this;
+		}
+		
+		@Override
+		public Builder setBoolean(int column, boolean value)
+		{
+			this.view.setBoolean(column, value);
 			
-			throw new ObjectNotFoundException(errorMessage);
+			return this;
 		}
 		
-		Object value = values[index];
+		@Override
+		public Builder setObject(int column, Object value)
+		{
+			this.view.setObject(column, value);
+			
+			return this;
+		}
 		
-		if(value == null)
+		@Override
+		public Builder setNull(int column)
 		{
-			return null;
+			this.view.setNull(column);
+			
+			return this;
 		}
 		
-		return type.cast(value);
-	}
-	
-	@Override
-	public String toString()
-	{
-		StringJoiner j = new StringJoiner(" | ");
-		for(Object v : values) j.add(String.valueOf(v));
-		return j.toString();
+		/**
+		 * Creates the row and clears the builder for the next one.
+		 */
+		public TypedRowLite build()
+		{
+			return this.view.detach();
+		}
 	}
 }
@@ -1,15 +1,18 @@
 package py.com.semp.lib.database.data;
 
 import java.sql.ResultSetMetaData;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
 
 import py.com.semp.lib.database.internal.MessageUtil;
 import py.com.semp.lib.database.internal.Messages;
 import py.com.semp.lib.database.utilities.DatabaseBuilders;
 import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+import py.com.semp.lib.utilidades.exceptions.ObjectNotFoundException;
 
 /**
  * Shared, immutable schema for a tabular result.
@@ -25,6 +28,10 @@ public final class TypedSchema
 	private final Class<?>[] types;
 	private final Map<String, Integer> nameToIndex;
 	private final String tableName;
+	private final Class<?>[] storageTypes;
+	private final int[] slots;
+	private final int primitiveCount;
+	private int hash;
 	
 	/**
      * Creates a schema from arrays of names/types and an optional common table name.
@@ -74,6 +81,42 @@ public final class TypedSchema
 		}
 		
 		this.nameToIndex = Collections.unmodifiableMap(nameToIndex);
+		
+		this.storageTypes = new Class<?>[types.length];
+		this.slots = new int[types.length];
+		
+		int primitiveCount = 0;
+		int objectCount = 0;
+		
+		for(int i = 0; i < types.length; i++)
+		{
+			this.storageTypes[i] = toStorageType(types[i]);
+			this.slots[i] = this.storageTypes[i] != Object.class ? primitiveCount++ : objectCount++;
+		}
+		
+		this.primitiveCount = primitiveCount;
+	}
+	
+	private static Class<?> toStorageType(Class<?> type)
+	{
+		if(type == Integer.class || type == Short.class || type == Byte.class)
+		{
+			return int.class;
+		}
+		else if(type == Long.class)
+		{
+			return long.class;
+		}
+		else if(type == Double.class || type == Float.class)
+		{
+			return double.class;
+		}
+		else if(type == Boolean.class)
+		{
+			return boolean.class;
+		}
+		
+		return Object.class;
 	}
 	
 	public TypedSchema(String[] names, Class<?>[] types)
@@ -101,6 +144,93 @@ public final class TypedSchema
 		return this.types[index];
 	}
 	
+	/**
+	 * Gets how the column is stored by {@link TypedRowLite} and {@link ColumnarResult}: {@code int.class} for
+	 * integer, short and byte columns, {@code long.class}, {@code double.class} for double and float columns,
+	 * {@code boolean.class}, or {@code Object.class} for any other type.
+	 */
+	public Class<?> getStorageType(int index)
+	{
+		return this.storageTypes[index];
+	}
+	
+	/**
+	 * Gets the position of the column among the primitive or among the object columns, depending on its storage type.
+	 */
+	int getSlot(int index)
+	{
+		return this.slots[index];
+	}
+	
+	/**
+	 * Gets the number of columns with a primitive storage type.
+	 */
+	int getPrimitiveCount()
+	{
+		return this.primitiveCount;
+	}
+	
+	/**
+	 * Gets the number of columns stored as objects.
+	 */
+	int getObjectCount()
+	{
+		return this.names.length - this.primitiveCount;
+	}
+	
+	/**
+	 * Resolves a column by its exact name, for repeated access by name.
+	 *
+	 * @param name The column label.
+	 * @return the column reference.
+	 * @throws ObjectNotFoundException if the schema has no such column.
+	 */
+	public ColumnRef column(String name)
+	{
+		Integer index = this.nameToIndex.get(name);
+		
+		if(index == null)
+		{
+			throw this.notFound(name);
+		}
+		
+		return new ColumnRef(this, this.names[index], index);
+	}
+	
+	/**
+	 * Resolves a column by its name ignoring case, preferring an exact match, for repeated access by name.
+	 *
+	 * @param name The column label in any case.
+	 * @return the column reference.
+	 * @throws ObjectNotFoundException if the schema has no such column.
+	 */
+	public ColumnRef columnIgnoreCase(String name)
+	{
+		Integer index = this.nameToIndex.get(name);
+		
+		if(index != null)
+		{
+			return new ColumnRef(this, this.names[index], index);
+		}
+		
+		for(int i = 0; i < this.names.length; i++)
+		{
+			if(this.names[i] != null && this.names[i].equalsIgnoreCase(name))
+			{
+				return new ColumnRef(this, this.names[i], i);
+			}
+		}
+		
+		throw this.notFound(name);
+	}
+	
+	private ObjectNotFoundException notFound(String name)
+	{
+		String errorMessage = MessageUtil.getMessage(Messages.FIELD_NOT_FOUND_ERROR, name, this.tableName);
+		
+		return new ObjectNotFoundException(errorMessage);
+	}
+	
 	public Integer indexOf(String name)
 	{
 		return this.nameToIndex.get(name);
@@ -120,4 +250,40 @@ public final class TypedSchema
 	{
 		return this.types.clone();
 	}
+	
+	/**
+	 * Two schemas are equal when they have the same table name and the same column names and types, in the same order.
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj)
+		{
+			return true;
+		}
+		
+		if(!(obj instanceof TypedSchema))
+		{
+			return false;
+		}
+		
+		TypedSchema other = (TypedSchema) obj;
+		
+		return Arrays.equals(this.names, other.names) && Arrays.equals(this.types, other.types) && Objects.equals(this.tableName, other.tableName);
+	}
+	
+	@Override
+	public int hashCode()
+	{
+		int hash = this.hash;
+		
+		if(hash == 0)
+		{
+			hash = 31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.types);
+			
+			this.hash = hash;
+		}
+		
+		return hash;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+package py.com.semp.lib.database.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache shared between threads that evicts its least recently used entries.
+ *
+ * <p>
+ * Lookups are lock-free: a hit only stamps the entry with the current time. When an insertion takes the cache
+ * over its maximum size, the inserting thread removes the entries with the oldest stamps, so a cache under
+ * a stream of distinct keys keeps its hottest entries instead of filling once and never changing.
+ * Recency is approximate, stamps written concurrently may be lost, which only affects the choice of the evicted entry.
+ * </p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the cached values.
+ *
+ * @author Sergio Morel
+ */
+public final class LruCache<K, V>
+{
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final int maxSize;
+	
+	/**
+	 * Creates an empty cache.
+	 *
+	 * @param maxSize The maximum number of entries kept, at least one.
+	 */
+	public LruCache(int maxSize)
+	{
+		super();
+		
+		this.maxSize = Math.max(1, maxSize);
+	}
+	
+	/**
+	 * Gets the value cached for the key, marking it as recently used.
+	 *
+	 * @param key The key of the value.
+	 * @return the cached value, or {@code null} if there is none.
+	 */
+	public V get(K key)
+	{
+		Entry<V> entry = this.entries.get(key);
+		
+		if(entry == null)
+		{
+			return null;
+		}
+		
+		entry.lastAccessNanos = System.nanoTime();
+		
+		return entry.value;
+	}
+	
+	/**
+	 * Caches the value unless another one is already cached for the key, evicting the least recently used
+	 * entries if the cache grows past its maximum size.
+	 *
+	 * @param key The key of the value.
+	 * @param value The value to cache.
+	 * @return the value already cached for the key, or {@code value} if it was cached.
+	 */
+	public V putIfAbsent(K key, V value)
+	{
+		Entry<V> created = new Entry<>(value);
+		
+		Entry<V> previous = this.entries.putIfAbsent(key, created);
+		
+		if(previous != null)
+		{
+			previous.lastAccessNanos = created.lastAccessNanos;
+			
+			return previous.value;
+		}
+		
+		if(this.entries.size() > this.maxSize)
+		{
+			this.evict();
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Gets the number of cached entries.
+	 */
+	public int size()
+	{
+		return this.entries.size();
+	}
+	
+	/**
+	 * Removes every cached entry.
+	 */
+	public void clear()
+	{
+		this.entries.clear();
+	}
+	
+	/**
+	 * Removes the least recently used entries until the cache is back to its maximum size.
+	 * Only one thread evicts at a time; the others carry on, the cache being trimmed on their behalf.
+	 */
+	private void evict()
+	{
+		if(!this.evictionLock.tryLock())
+		{
+			return;
+		}
+		
+		try
+		{
+			while(this.entries.size() > this.maxSize)
+			{
+				Map.Entry<K, Entry<V>> eldest = null;
+				
+				for(Map.Entry<K, Entry<V>> candidate : this.entries.entrySet())
+				{
+					if(eldest == null || candidate.getValue().lastAccessNanos - eldest.getValue().lastAccessNanos < 0L)
+					{
+						eldest = candidate;
+					}
+				}
+				
+				if(eldest == null)
+				{
+					return;
+				}
+				
+				this.entries.remove(eldest.getKey(), eldest.getValue());
+			}
+		}
+		finally
+		{
+			this.evictionLock.unlock();
+		}
+	}
+	
+	private static final class Entry<V>
+	{
+		private final V value;
+		private long lastAccessNanos;
+		
+		private Entry(V value)
+		{
+			this.value = value;
+			this.lastAccessNanos = System.nanoTime();
+		}
+	}
+}
@@ -38,7 +38,32 @@ public enum Messages implements MessageKey
 	TOO_LARGE_TO_MATERIALIZE_ERROR,
 	SHUTTING_DOWN,
 	NOT_SUPPORTED,
-	DRIVER_INFO;
+	DRIVER_INFO,
+	POOL_ACQUIRE_TIMEOUT_ERROR,
+	POOL_WAIT_QUEUE_FULL_ERROR,
+	POOL_CLOSED_ERROR,
+	POOL_INTERRUPTED_ERROR,
+	POOL_RESET_CONNECTION_ERROR,
+	CONNECTION_RECLAIMED,
+	HOUSEKEEPING_TASK_ERROR,
+	CONNECTION_EVICTED,
+	POOL_WARMED_UP,
+	POOL_WARM_UP_ERROR,
+	WARM_UP_STATEMENT_ERROR,
+	DRIVER_URL_NOT_ACCEPTED_ERROR,
+	DRIVER_INSTANTIATION_ERROR,
+	INVALID_DRIVER_PROPERTY_ERROR,
+	BATCH_EXECUTION_ERROR,
+	BATCH_EXECUTED,
+	MULTI_ROW_INSERT_ERROR,
+	CLOSING_QUERY_RESULT_ERROR,
+	TYPED_GETTER_NOT_SUPPORTED,
+	COLUMN_TYPE_MISMATCH_ERROR,
+	ROW_MAPPER_CREATION_ERROR,
+	ROW_MAPPING_ERROR,
+	MAPPED_COLUMN_NOT_FOUND_ERROR,
+	LOADING_VALUE_BINDER_PROVIDERS_ERROR,
+	ROW_VALUES_COUNT_ERROR;
 	
 	@Override
 	public String getMessageKey()
@@ -0,0 +1,42 @@
+package py.com.semp.lib.database.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record or a bean for which the {@code lib_database_processor} annotation processor generates,
+ * at compile time, a class implementing {@link ResultSetMapper} and {@link ParameterBinder}.
+ *
+ * <p>
+ * The generated class is named after the annotated type with the {@code JdbcMapper} suffix, in the same package
+ * (nested types are prefixed with their enclosing types, separated by {@code _}), and exposes a shared
+ * {@code INSTANCE}. Its properties are the components of a record, or the fields of a bean with a public getter
+ * and setter, in declaration order: the mapper reads them from the columns {@code 1..n} of the result set,
+ * and the binder sets them as the parameters {@code 1..n} of the statement, after the given offset.
+ * </p>
+ *
+ * <pre>{@code
+ * @GenerateMapper
+ * public record Event(long id, String level, LocalDateTime createdAt) {}
+ *
+ * List<Event> events = connection.queryForList(EventJdbcMapper.INSTANCE, "SELECT id, level, created_at FROM events");
+ *
+ * connection.executeBatch("INSERT INTO events (id, level, created_at) VALUES (?, ?, ?)", events, EventJdbcMapper.INSTANCE);
+ * }</pre>
+ *
+ * <p>
+ * The generated code calls the typed getters and setters of JDBC directly, without reflection,
+ * so unlike {@link RowMapper} it needs no compilation at runtime.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateMapper
+{
+}
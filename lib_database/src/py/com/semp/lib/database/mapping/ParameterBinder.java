@@ -0,0 +1,24 @@
+package py.com.semp.lib.database.mapping;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets the properties of an instance as statement parameters, implemented by the binders generated for {@link GenerateMapper}.
+ *
+ * @param <T> The type of the bound instances.
+ * @author Sergio Morel
+ */
+@FunctionalInterface
+public interface ParameterBinder<T>
+{
+	/**
+	 * Sets the properties of the value as the parameters following the given offset.
+	 *
+	 * @param preparedStatement The statement to bind.
+	 * @param offset The number of parameters before the first one to set, zero for the first parameter.
+	 * @param value The instance to bind.
+	 * @throws SQLException if a parameter cannot be set.
+	 */
+	void bind(PreparedStatement preparedStatement, int offset, T value) throws SQLException;
+}
@@ -0,0 +1,23 @@
+package py.com.semp.lib.database.mapping;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Creates an instance from the current row of a result set, implemented by the mappers generated for {@link GenerateMapper}.
+ *
+ * @param <T> The type of the mapped rows.
+ * @author Sergio Morel
+ */
+@FunctionalInterface
+public interface ResultSetMapper<T>
+{
+	/**
+	 * Maps the current row of the result set.
+	 *
+	 * @param resultSet The result set, positioned on a row.
+	 * @return the mapped instance.
+	 * @throws SQLException if a column cannot be read.
+	 */
+	T map(ResultSet resultSet) throws SQLException;
+}
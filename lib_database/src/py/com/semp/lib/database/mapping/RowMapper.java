@@ -0,0 +1,506 @@
+package py.com.semp.lib.database.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.data.TypedSchema;
+import py.com.semp.lib.database.internal.LruCache;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * Maps the rows of a result to instances of a record or a bean, compiled once per {@link TypedSchema} and target class.
+ *
+ * <p>
+ * Columns are matched to the components of a record, or to the setters of a bean, by name: exactly, then ignoring
+ * case and underscores, so {@code first_name} fills {@code firstName}. Compiling resolves the column of every
+ * property and the conversion of its value, and composes them with the canonical constructor or the setters into
+ * {@link MethodHandle}s, so mapping a row involves no reflection nor lookups by name.
+ * </p>
+ *
+ * <ul>
+ * <li>Records are created through their canonical constructor; every component must match a column.</li>
+ * <li>Beans are created through their public no-argument constructor, then every setter matching a column is called;
+ * columns without a setter are ignored.</li>
+ * </ul>
+ *
+ * <p>
+ * Numeric columns are converted to any numeric property type, {@code null} values become zero or {@code false}
+ * for primitive properties, string columns fill enum properties by constant name, and any column fills a
+ * {@code String} property through {@link String#valueOf(Object)}.
+ * </p>
+ *
+ * <pre>{@code
+ * record Event(long id, String level, LocalDateTime createdAt) {}
+ *
+ * List<Event> events = connection.queryForList(Event.class, "SELECT id, level, created_at FROM events");
+ * }</pre>
+ *
+ * <p>
+ * Mappers are cached per target class with {@link ClassValue}, keeping the {@code ROW_MAPPER_CACHE_SIZE} most recently
+ * used schemas of each class, and are immutable and thread-safe.
+ * Types that are not public, or not in an exported package, require a {@link MethodHandles.Lookup}
+ * with access to them, see {@link #of(TypedSchema, Class, MethodHandles.Lookup)}.
+ * </p>
+ *
+ * @param <T> The type of the mapped rows.
+ * @author Sergio Morel
+ */
+public final class RowMapper<T>
+{
+	private static final ClassValue<LruCache<TypedSchema, RowMapper<?>>> CACHE = new ClassValue<>()
+	{
+		@Override
+		protected LruCache<TypedSchema, RowMapper<?>> computeValue(Class<?> type)
+		{
+			return new LruCache<>(Values.Constants.ROW_MAPPER_CACHE_SIZE);
+		}
+	};
+	
+	private static final MethodHandle ELEMENT = MethodHandles.arrayElementGetter(Object[].class);
+	private static final MethodHandle IS_NULL = findConverter("isNull", boolean.class);
+	private static final MethodHandle TO_ENUM = findConverter("toEnum", Enum.class, Class.class);
+	private static final MethodHandle TO_STRING = findConverter("toText", String.class);
+	private static final MethodHandle[] PRIMITIVE_CONVERTERS = new MethodHandle[]
+	{
+		findConverter("toInt", int.class),
+		findConverter("toLong", long.class),
+		findConverter("toDouble", double.class),
+		findConverter("toFloat", float.class),
+		findConverter("toShort", short.class),
+		findConverter("toByte", byte.class),
+		findConverter("toBoolean", boolean.class)
+	};
+	
+	private final TypedSchema schema;
+	private final Class<T> type;
+	private final MethodHandle factory;
+	private final MethodHandle[] setters;
+	
+	private RowMapper(TypedSchema schema, Class<T> type, MethodHandles.Lookup lookup) throws DataAccessException
+	{
+		super();
+		
+		this.schema = schema;
+		this.type = type;
+		
+		ColumnIndex columns = new ColumnIndex(schema);
+		
+		try
+		{
+			if(type.isRecord())
+			{
+				this.factory = this.compileRecord(columns, lookup);
+				this.setters = new MethodHandle[0];
+			}
+			else
+			{
+				MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+				
+				constructor = constructor.asType(MethodType.methodType(Object.class));
+				
+				this.factory = MethodHandles.dropArguments(constructor, 0, Object[].class);
+				this.setters = this.compileSetters(columns, lookup);
+			}
+		}
+		catch(ReflectiveOperationException | IllegalArgumentException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.ROW_MAPPER_CREATION_ERROR, type.getName());
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * Gets the mapper of the given schema to the given type, compiling it the first time.
+	 * The type and its constructor and setters must be public.
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param schema The schema of the rows to map.
+	 * @param type A record or a bean class.
+	 * @return the mapper.
+	 * @throws DataAccessException if the type has no usable constructor, a record component matches no column,
+	 * or a column cannot be converted to the type of its property.
+	 */
+	public static <T> RowMapper<T> of(TypedSchema schema, Class<T> type) throws DataAccessException
+	{
+		return of(schema, type, MethodHandles.publicLookup());
+	}
+	
+	/**
+	 * Gets the mapper of the given schema to the given type, compiling it the first time with the given lookup.
+	 * <p>
+	 * Pass {@code MethodHandles.lookup()} from the module declaring the type to map records and beans that are not
+	 * accessible to this library. The compiled mapper is cached, so later calls for the same schema get it regardless
+	 * of the lookup.
+	 * </p>
+	 *
+	 * @param <T> The type of the mapped rows.
+	 * @param schema The schema of the rows to map.
+	 * @param type A record or a bean class.
+	 * @param lookup The lookup used to access the constructor and the setters of the type.
+	 * @return the mapper.
+	 * @throws DataAccessException if the type has no usable constructor, a record component matches no column,
+	 * or a column cannot be converted to the type of its property.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> RowMapper<T> of(TypedSchema schema, Class<T> type, MethodHandles.Lookup lookup) throws DataAccessException
+	{
+		if(schema == null || type == null || lookup == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			StringJoiner joiner = new StringJoiner(", ");
+			
+			if(schema == null) joiner.add("schema");
+			if(type == null) joiner.add("type");
+			if(lookup == null) joiner.add("lookup");
+			
+			methodName.append("[").append(joiner.toString()).append("] ");
+			methodName.append(RowMapper.class.getSimpleName());
+			methodName.append("::of(");
+			methodName.append(TypedSchema.class.getSimpleName());
+			methodName.append(" schema, Class<T> type, Lookup lookup)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		LruCache<TypedSchema, RowMapper<?>> cache = CACHE.get(type);
+		
+		RowMapper<?> mapper = cache.get(schema);
+		
+		if(mapper != null)
+		{
+			return (RowMapper<T>) mapper;
+		}
+		
+		return (RowMapper<T>) cache.putIfAbsent(schema, new RowMapper<>(schema, type, lookup));
+	}
+	
+	/**
+	 * Gets the schema of the rows this mapper reads.
+	 */
+	public TypedSchema getSchema()
+	{
+		return this.schema;
+	}
+	
+	/**
+	 * Gets the type this mapper creates.
+	 */
+	public Class<T> getType()
+	{
+		return this.type;
+	}
+	
+	/**
+	 * Creates an instance from the values of one row.
+	 *
+	 * @param values The values of the row in column order, as read by
+	 * {@link py.com.semp.lib.database.utilities.RowReader#readValues(java.sql.ResultSet)}.
+	 * @return the mapped instance.
+	 * @throws DataAccessException if the constructor or a setter fails, or a value is not of the type of its column.
+	 */
+	@SuppressWarnings("unchecked")
+	public T map(Object[] values) throws DataAccessException
+	{
+		if(values == null || values.length != this.schema.size())
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.ROW_VALUES_COUNT_ERROR, this.schema.size(), values != null ? values.length : null);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		try
+		{
+			Object target = (Object) this.factory.invokeExact(values);
+			
+			for(MethodHandle setter : this.setters)
+			{
+				setter.invokeExact(target, values);
+			}
+			
+			return (T) target;
+		}
+		catch(Error e)
+		{
+			throw e;
+		}
+		catch(Throwable e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.ROW_MAPPING_ERROR, this.type.getName());
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * Composes the canonical constructor with a reader of the column of every component,
+	 * into a handle of type {@code (Object[])Object}.
+	 */
+	private MethodHandle compileRecord(ColumnIndex columns, MethodHandles.Lookup lookup) throws ReflectiveOperationException, DataAccessException
+	{
+		RecordComponent[] components = this.type.getRecordComponents();
+		
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+		
+		for(int i = 0; i < components.length; i++)
+		{
+			parameterTypes[i] = components[i].getType();
+		}
+		
+		MethodHandle constructor = lookup.findConstructor(this.type, MethodType.methodType(void.class, parameterTypes));
+		
+		for(int i = 0; i < components.length; i++)
+		{
+			int column = columns.find(components[i].getName());
+			
+			if(column < 0)
+			{
+				String errorMessage = MessageUtil.getMessage(Messages.MAPPED_COLUMN_NOT_FOUND_ERROR, components[i].getName(), this.type.getName());
+				
+				throw new DataAccessException(errorMessage);
+			}
+			
+			constructor = MethodHandles.filterArguments(constructor, i, this.getReader(column, parameterTypes[i]));
+		}
+		
+		constructor = MethodHandles.permuteArguments(constructor, MethodType.methodType(this.type, Object[].class), new int[components.length]);
+		
+		return constructor.asType(MethodType.methodType(Object.class, Object[].class));
+	}
+	
+	/**
+	 * Composes every public setter matching a column with a reader of that column,
+	 * into handles of type {@code (Object, Object[])void}.
+	 */
+	private MethodHandle[] compileSetters(ColumnIndex columns, MethodHandles.Lookup lookup) throws ReflectiveOperationException, DataAccessException
+	{
+		List<MethodHandle> setters = new ArrayList<>();
+		Set<String> mapped = new HashSet<>();
+		
+		for(Method method : this.type.getMethods())
+		{
+			String name = method.getName();
+			
+			if(name.length() <= 3 || !name.startsWith("set") || method.getParameterCount() != 1 || Modifier.isStatic(method.getModifiers()))
+			{
+				continue;
+			}
+			
+			String property = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+			
+			int column = columns.find(property);
+			
+			if(column < 0 || !mapped.add(property))
+			{
+				continue;
+			}
+			
+			Class<?> parameterType = method.getParameterTypes()[0];
+			
+			MethodHandle setter = lookup.unreflect(method);
+			
+			setter = setter.asType(MethodType.methodType(void.class, this.type, parameterType));
+			setter = MethodHandles.filterArguments(setter, 1, this.getReader(column, parameterType));
+			
+			setters.add(setter.asType(MethodType.methodType(void.class, Object.class, Object[].class)));
+		}
+		
+		return setters.toArray(new MethodHandle[0]);
+	}
+	
+	/**
+	 * Gets a handle of type {@code (Object[])target} reading and converting the value of the given column.
+	 */
+	private MethodHandle getReader(int column, Class<?> target) throws DataAccessException
+	{
+		MethodHandle element = MethodHandles.insertArguments(ELEMENT, 1, column);
+		
+		return MethodHandles.filterReturnValue(element, this.getConverter(column, target));
+	}
+	
+	/**
+	 * Gets a handle of type {@code (Object)target} converting the values of the given column.
+	 */
+	private MethodHandle getConverter(int column, Class<?> target) throws DataAccessException
+	{
+		Class<?> columnType = this.schema.getType(column);
+		
+		if(target == String.class)
+		{
+			return TO_STRING;
+		}
+		
+		if(!target.isPrimitive() && (target.isAssignableFrom(columnType) || columnType.isAssignableFrom(target)))
+		{
+			return MethodHandles.identity(Object.class).asType(MethodType.methodType(target, Object.class));
+		}
+		
+		Class<?> primitive = MethodType.methodType(target).unwrap().returnType();
+		
+		if(primitive.isPrimitive() && this.isConvertible(columnType, primitive))
+		{
+			for(MethodHandle converter : PRIMITIVE_CONVERTERS)
+			{
+				if(converter.type().returnType() == primitive)
+				{
+					if(target.isPrimitive())
+					{
+						return converter;
+					}
+					
+					MethodHandle nullValue = MethodHandles.dropArguments(MethodHandles.constant(target, null), 0, Object.class);
+					
+					return MethodHandles.guardWithTest(IS_NULL, nullValue, converter.asType(MethodType.methodType(target, Object.class)));
+				}
+			}
+		}
+		
+		if(target.isEnum() && columnType == String.class)
+		{
+			return MethodHandles.insertArguments(TO_ENUM, 1, target).asType(MethodType.methodType(target, Object.class));
+		}
+		
+		String errorMessage = MessageUtil.getMessage(Messages.COLUMN_TYPE_MISMATCH_ERROR, columnType.getName(), target.getName());
+		
+		throw new DataAccessException(errorMessage);
+	}
+	
+	private boolean isConvertible(Class<?> columnType, Class<?> primitive)
+	{
+		if(columnType.isAssignableFrom(Number.class) || Number.class.isAssignableFrom(columnType))
+		{
+			return true;
+		}
+		
+		return primitive == boolean.class && columnType == Boolean.class;
+	}
+	
+	private static MethodHandle findConverter(String name, Class<?> returnType, Class<?>... extraTypes)
+	{
+		MethodType methodType = MethodType.methodType(returnType, Object.class, extraTypes);
+		
+		try
+		{
+			return MethodHandles.lookup().findStatic(RowMapper.class, name, methodType);
+		}
+		catch(ReflectiveOperationException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static boolean isNull(Object value)
+	{
+		return value == null;
+	}
+	
+	private static int toInt(Object value)
+	{
+		return value == null ? 0 : ((Number) value).intValue();
+	}
+	
+	private static long toLong(Object value)
+	{
+		return value == null ? 0L : ((Number) value).longValue();
+	}
+	
+	private static double toDouble(Object value)
+	{
+		return value == null ? 0D : ((Number) value).doubleValue();
+	}
+	
+	private static float toFloat(Object value)
+	{
+		return value == null ? 0F : ((Number) value).floatValue();
+	}
+	
+	private static short toShort(Object value)
+	{
+		return value == null ? 0 : ((Number) value).shortValue();
+	}
+	
+	private static byte toByte(Object value)
+	{
+		return value == null ? 0 : ((Number) value).byteValue();
+	}
+	
+	private static boolean toBoolean(Object value)
+	{
+		if(value instanceof Number)
+		{
+			return ((Number) value).intValue() != 0;
+		}
+		
+		return value != null && (Boolean) value;
+	}
+	
+	private static String toText(Object value)
+	{
+		return value == null ? null : String.valueOf(value);
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Enum toEnum(Object value, Class type)
+	{
+		return value == null ? null : Enum.valueOf(type, (String) value);
+	}
+	
+	/**
+	 * Looks up the columns of a schema by property name, exactly and then ignoring case and underscores.
+	 */
+	private static final class ColumnIndex
+	{
+		private final TypedSchema schema;
+		private final Map<String, Integer> normalized;
+		
+		private ColumnIndex(TypedSchema schema)
+		{
+			this.schema = schema;
+			this.normalized = new HashMap<>(schema.size());
+			
+			for(int i = schema.size() - 1; i >= 0; i--)
+			{
+				if(schema.getName(i) != null)
+				{
+					this.normalized.put(normalize(schema.getName(i)), i);
+				}
+			}
+		}
+		
+		private int find(String property)
+		{
+			Integer index = this.schema.indexOf(property);
+			
+			if(index == null)
+			{
+				index = this.normalized.get(normalize(property));
+			}
+			
+			return Objects.requireNonNullElse(index, -1);
+		}
+		
+		private static String normalize(String name)
+		{
+			return name.replace("_", "").toLowerCase(Locale.ROOT);
+		}
+	}
+}
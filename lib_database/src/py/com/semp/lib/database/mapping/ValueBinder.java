@@ -0,0 +1,24 @@
+package py.com.semp.lib.database.mapping;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Sets a non-null value of a given type as a statement parameter, registered in {@link ValueBinders}.
+ *
+ * @param <T> The type of the bound values.
+ * @author Sergio Morel
+ */
+@FunctionalInterface
+public interface ValueBinder<T>
+{
+	/**
+	 * Sets the value as the given parameter.
+	 *
+	 * @param preparedStatement The statement to bind.
+	 * @param parameterIndex The index of the parameter, starting at 1.
+	 * @param value The value to set, never {@code null}.
+	 * @throws SQLException if the parameter cannot be set.
+	 */
+	void bind(PreparedStatement preparedStatement, int parameterIndex, T value) throws SQLException;
+}
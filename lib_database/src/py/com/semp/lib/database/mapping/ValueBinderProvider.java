@@ -0,0 +1,20 @@
+package py.com.semp.lib.database.mapping;
+
+/**
+ * Service provider registering the {@link ValueBinder}s of custom types, loaded with {@link java.util.ServiceLoader}
+ * the first time {@link ValueBinders} is used.
+ *
+ * <p>
+ * Declare implementations with {@code provides py.com.semp.lib.database.mapping.ValueBinderProvider with ...}
+ * in a module descriptor, or in {@code META-INF/services} on the class path.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public interface ValueBinderProvider
+{
+	/**
+	 * Registers the binders of this provider with {@link ValueBinders#register(Class, ValueBinder)}.
+	 */
+	void registerBinders();
+}
@@ -0,0 +1,335 @@
+package py.com.semp.lib.database.mapping;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.log.Logger;
+import py.com.semp.lib.utilidades.log.LoggerManager;
+
+/**
+ * Registry of the {@link ValueBinder}s setting statement parameters, dispatched by the exact class of the value.
+ *
+ * <p>
+ * The binder of a class is resolved once and kept in a {@link ClassValue}, so binding a parameter costs a single
+ * lookup instead of a chain of {@code instanceof} checks. Classes without a registered binder take the one of their
+ * closest registered superclass or interface; enums are bound by constant name, anything else with
+ * {@link PreparedStatement#setObject(int, Object)}.
+ * </p>
+ *
+ * <p>
+ * Built-in binders use the typed setters for strings, numbers, booleans, {@code byte[]}, {@code char[]},
+ * {@link InputStream}, {@link Reader}, the {@code java.sql} date and time types and {@link java.util.Date}.
+ * The {@code java.time} types defined by JDBC 4.2 are set with {@code setObject}, {@link Instant} and
+ * {@link ZonedDateTime} as timestamps, and {@link UUID} with {@code setObject} or as a string if the driver
+ * rejected it on its first UUID.
+ * </p>
+ *
+ * <p>
+ * Custom types are added with {@link #register(Class, ValueBinder)}, or by a {@link ValueBinderProvider}
+ * found with {@link ServiceLoader} when this class is initialized.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+public final class ValueBinders
+{
+	private static final Map<Class<?>, ValueBinder<?>> REGISTERED = new ConcurrentHashMap<>();
+	
+	private static final ValueBinder<Object> OBJECT_BINDER = PreparedStatement::setObject;
+	private static final ValueBinder<Enum<?>> ENUM_BINDER = (ps, i, value) -> ps.setString(i, value.name());
+	
+	private static final ClassValue<Resolved> BINDERS = new ClassValue<>()
+	{
+		@Override
+		protected Resolved computeValue(Class<?> type)
+		{
+			// The generation is read before resolving, so a concurrent registration always invalidates the result
+			return new Resolved(GENERATION.get(), resolve(type));
+		}
+	};
+	
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+	
+	/**
+	 * Whether the statements of each driver accept a {@link UUID} with {@code setObject}, {@code null} until probed.
+	 */
+	private static final ClassValue<AtomicReference<Boolean>> UUID_SUPPORT = new ClassValue<>()
+	{
+		@Override
+		protected AtomicReference<Boolean> computeValue(Class<?> type)
+		{
+			return new AtomicReference<>();
+		}
+	};
+	
+	static
+	{
+		register(String.class, PreparedStatement::setString);
+		register(Integer.class, PreparedStatement::setInt);
+		register(Long.class, PreparedStatement::setLong);
+		register(Double.class, PreparedStatement::setDouble);
+		register(Float.class, PreparedStatement::setFloat);
+		register(Short.class, PreparedStatement::setShort);
+		register(Byte.class, PreparedStatement::setByte);
+		register(Boolean.class, PreparedStatement::setBoolean);
+		register(BigDecimal.class, PreparedStatement::setBigDecimal);
+		register(BigInteger.class, (ps, i, value) -> ps.setBigDecimal(i, new BigDecimal(value)));
+		register(Character.class, (ps, i, value) -> ps.setString(i, value.toString()));
+		register(byte[].class, PreparedStatement::setBytes);
+		register(char[].class, (ps, i, value) -> ps.setString(i, new String(value)));
+		register(InputStream.class, PreparedStatement::setBinaryStream);
+		register(Reader.class, PreparedStatement::setCharacterStream);
+		register(java.sql.Date.class, PreparedStatement::setDate);
+		register(java.sql.Time.class, PreparedStatement::setTime);
+		register(java.sql.Timestamp.class, PreparedStatement::setTimestamp);
+		register(java.util.Date.class, (ps, i, value) -> ps.setTimestamp(i, new java.sql.Timestamp(value.getTime())));
+		register(java.sql.Array.class, PreparedStatement::setArray);
+		register(java.sql.Blob.class, PreparedStatement::setBlob);
+		register(java.sql.Clob.class, PreparedStatement::setClob);
+		register(LocalDate.class, PreparedStatement::setObject);
+		register(LocalTime.class, PreparedStatement::setObject);
+		register(LocalDateTime.class, PreparedStatement::setObject);
+		register(OffsetTime.class, PreparedStatement::setObject);
+		register(OffsetDateTime.class, PreparedStatement::setObject);
+		register(Instant.class, (ps, i, value) -> ps.setTimestamp(i, java.sql.Timestamp.from(value)));
+		register(ZonedDateTime.class, (ps, i, value) -> ps.setObject(i, value.toOffsetDateTime()));
+		register(UUID.class, ValueBinders::bindUUID);
+		
+		loadProviders();
+	}
+	
+	private ValueBinders()
+	{
+		super();
+	}
+	
+	/**
+	 * Registers the binder of the given type, replacing the previous one.
+	 * The binder is also used for subclasses and implementations without a binder of their own.
+	 *
+	 * @param <T> The type of the bound values.
+	 * @param type The exact class of the values, or the superclass or interface they share.
+	 * @param binder The binder of the values.
+	 * @throws NullPointerException if {@code type} or {@code binder} is {@code null}.
+	 */
+	public static <T> void register(Class<T> type, ValueBinder<? super T> binder)
+	{
+		if(type == null || binder == null)
+		{
+			StringBuilder methodName = new StringBuilder();
+			
+			StringJoiner joiner = new StringJoiner(", ");
+			
+			if(type == null) joiner.add("type");
+			if(binder == null) joiner.add("binder");
+			
+			methodName.append("[").append(joiner.toString()).append("] ");
+			methodName.append(ValueBinders.class.getSimpleName());
+			methodName.append("::register(Class<T> type, ");
+			methodName.append(ValueBinder.class.getSimpleName());
+			methodName.append("<? super T> binder)");
+			
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_VALUES_NOT_ALLOWED_ERROR, methodName.toString());
+			
+			throw new NullPointerException(errorMessage);
+		}
+		
+		REGISTERED.put(type, binder);
+		
+		GENERATION.incrementAndGet();
+	}
+	
+	/**
+	 * Gets the binder of values of the given class.
+	 *
+	 * @param <T> The type of the bound values.
+	 * @param type The exact class of the values.
+	 * @return the binder registered for the class, its closest superclass or interface, or the default one.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> ValueBinder<? super T> getBinder(Class<T> type)
+	{
+		Resolved resolved = BINDERS.get(type);
+		
+		if(resolved.generation != GENERATION.get())
+		{
+			BINDERS.remove(type);
+			
+			resolved = BINDERS.get(type);
+		}
+		
+		return (ValueBinder<? super T>) resolved.binder;
+	}
+	
+	/**
+	 * Sets the value as the given parameter with the binder of its class, or with {@code setObject} if it is {@code null}.
+	 *
+	 * @param preparedStatement The statement to bind.
+	 * @param parameterIndex The index of the parameter, starting at 1.
+	 * @param value The value to set; may be {@code null}.
+	 * @throws SQLException if the parameter cannot be set.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void bind(PreparedStatement preparedStatement, int parameterIndex, Object value) throws SQLException
+	{
+		if(value == null)
+		{
+			preparedStatement.setObject(parameterIndex, null);
+			
+			return;
+		}
+		
+		ValueBinder<Object> binder = (ValueBinder<Object>) getBinder(value.getClass());
+		
+		binder.bind(preparedStatement, parameterIndex, value);
+	}
+	
+	/**
+	 * Finds the binder of the class, then of its enum declaration, superclasses and interfaces.
+	 */
+	private static ValueBinder<?> resolve(Class<?> type)
+	{
+		ValueBinder<?> binder = REGISTERED.get(type);
+		
+		if(binder != null)
+		{
+			return binder;
+		}
+		
+		if(Enum.class.isAssignableFrom(type))
+		{
+			return ENUM_BINDER;
+		}
+		
+		Deque<Class<?>> interfaces = new ArrayDeque<>();
+		
+		for(Class<?> current = type; current != null; current = current.getSuperclass())
+		{
+			binder = REGISTERED.get(current);
+			
+			if(binder != null)
+			{
+				return binder;
+			}
+			
+			for(Class<?> implemented : current.getInterfaces())
+			{
+				interfaces.add(implemented);
+			}
+		}
+		
+		while(!interfaces.isEmpty())
+		{
+			Class<?> implemented = interfaces.poll();
+			
+			binder = REGISTERED.get(implemented);
+			
+			if(binder != null)
+			{
+				return binder;
+			}
+			
+			for(Class<?> parent : implemented.getInterfaces())
+			{
+				interfaces.add(parent);
+			}
+		}
+		
+		return OBJECT_BINDER;
+	}
+	
+	/**
+	 * Binds a {@link UUID} with {@code setObject}, probing the driver on its first UUID. A driver that rejects it
+	 * is recorded per statement class and gets the UUID as a string from then on, without throwing again.
+	 */
+	private static void bindUUID(PreparedStatement preparedStatement, int parameterIndex, UUID value) throws SQLException
+	{
+		AtomicReference<Boolean> support = UUID_SUPPORT.get(preparedStatement.getClass());
+		
+		Boolean supported = support.get();
+		
+		if(Boolean.FALSE.equals(supported))
+		{
+			preparedStatement.setString(parameterIndex, value.toString());
+			
+			return;
+		}
+		
+		try
+		{
+			preparedStatement.setObject(parameterIndex, value);
+			
+			if(supported == null)
+			{
+				support.compareAndSet(null, true);
+			}
+		}
+		catch(SQLException e)
+		{
+			if(supported == null)
+			{
+				support.compareAndSet(null, false);
+			}
+			
+			preparedStatement.setString(parameterIndex, value.toString());
+		}
+	}
+	
+	private static void loadProviders()
+	{
+		try
+		{
+			for(ValueBinderProvider provider : ServiceLoader.load(ValueBinderProvider.class))
+			{
+				provider.registerBinders();
+			}
+		}
+		catch(ServiceConfigurationError e)
+		{
+			Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+			
+			String errorMessage = MessageUtil.getMessage(Messages.LOADING_VALUE_BINDER_PROVIDERS_ERROR);
+			
+			logger.warning(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * The binder resolved for a class, with the registry generation it was resolved in.
+	 */
+	private static final class Resolved
+	{
+		private final int generation;
+		private final ValueBinder<?> binder;
+		
+		private Resolved(int generation, ValueBinder<?> binder)
+		{
+			this.generation = generation;
+			this.binder = binder;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package py.com.semp.lib.database.utilities;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of one column of the current row, with the getter selected for its type.
+ *
+ * @author Sergio Morel
+ * @see DatabaseBuilders#getColumnReader(Class, int, DriverCapabilities)
+ */
+@FunctionalInterface
+interface ColumnReader
+{
+	Object read(ResultSet resultSet, int index) throws SQLException;
+}
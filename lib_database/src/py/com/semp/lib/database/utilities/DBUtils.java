@@ -2,7 +2,6 @@ package py.com.semp.lib.database.utilities;
 
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import py.com.semp.lib.database.internal.MessageUtil;
@@ -18,7 +17,16 @@ import py.com.semp.lib.utilidades.exceptions.DataAccessException;
  */
 public final class DBUtils
 {
+	/**
+	 * @deprecated Matches parameters inside literals, comments and casts. Use {@link NamedQuery} instead.
+	 */
+	@Deprecated
 	public static final String NAMED_QUERY_REGEX = "(:+)([a-zA-Z_][a-zA-Z0-9_]*)";
+	
+	/**
+	 * @deprecated Matches parameters inside literals, comments and casts. Use {@link NamedQuery} instead.
+	 */
+	@Deprecated
 	public static final Pattern NAMED_QUERY_PATTERN = Pattern.compile(NAMED_QUERY_REGEX);
 	
 	private DBUtils()
@@ -45,12 +53,12 @@ public final class DBUtils
      * using '?' placeholders. The values for each named parameter are extracted from
      * the provided {@code valuesMap} and stored in {@code values} in the order they appear.
      * <p>
-     * This method also supports colon escaping. A parameter can be escaped by prefixing
-     * it with an extra colon:
+     * Parameters inside quoted literals, comments and dollar-quoted bodies are left untouched:
      * <ul>
      *   <li>{@code :name} is replaced with {@code ?}</li>
-     *   <li>{@code ::name} is preserved as {@code :name}</li>
+     *   <li>{@code ::name} is a cast and is preserved as is</li>
      *   <li>{@code :::name} becomes {@code :?}</li>
+     *   <li>{@code ::::name} is preserved as {@code ::name}</li>
      * </ul>
      * </p>
      *
@@ -62,6 +70,7 @@ public final class DBUtils
      *
      * @throws IllegalArgumentException if any of the arguments are {@code null}.
      * @throws DataAccessException if the query contains a named parameter not present in {@code valuesMap}.
+     * @see NamedQuery
      */
 	public static String parseNamedQueryToJDBC(final String namedQuery, final Map<String, Object> valuesMap, final List<Object> values) throws DataAccessException
 	{
@@ -72,42 +81,13 @@ public final class DBUtils
 			throw new IllegalArgumentException(errorMessage);
 		}
 		
-		Matcher matcher = NAMED_QUERY_PATTERN.matcher(namedQuery);
+		NamedQuery query = NamedQuery.compile(namedQuery);
 		
-		StringBuffer jdbcSQL = new StringBuffer();
-		
-		while(matcher.find())
+		for(Object value : query.getValues(valuesMap))
 		{
-			String colons = matcher.group(1);
-			String name = matcher.group(2);
-			
-			StringBuilder replacement = new StringBuilder();
-			
-			if(colons.length() % 2 == 0)
-			{
-				replacement.append(":".repeat(colons.length() / 2));
-				replacement.append(name);
-			}
-			else
-			{
-				if(!valuesMap.containsKey(name))
-				{
-					String errorMessage = MessageUtil.getMessage(Messages.MISSING_VALUE_ERROR, name);
-					
-					throw new DataAccessException(errorMessage);
-				}
-				
-				replacement.append(":".repeat((colons.length() - 1) / 2));
-				replacement.append("?");
-				
-				values.add(valuesMap.get(name));
-			}
-			
-			matcher.appendReplacement(jdbcSQL, Matcher.quoteReplacement(replacement.toString()));
+			values.add(value);
 		}
 		
-		matcher.appendTail(jdbcSQL);
-		
-		return jdbcSQL.toString();
+		return query.getSQL();
 	}
 }
\ No newline at end of file
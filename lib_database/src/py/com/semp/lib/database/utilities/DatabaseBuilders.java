@@ -33,7 +33,20 @@ public final class DatabaseBuilders
 	
 	private static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAPPER = new HashMap<>();
 	
-	private static final ThreadLocal<Calendar> UTC_CALENDAR = ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+	private static final TimeZone UTC_TIME_ZONE = TimeZone.getTimeZone("UTC");
+	
+	/**
+	 * Readers used by {@link #readObject(ResultSet, int, Class)}, selected once per type. Their typed getters
+	 * look the {@link DriverCapabilities} up from each result set, so one reader serves every driver.
+	 */
+	private static final ClassValue<ColumnReader> OBJECT_READERS = new ClassValue<ColumnReader>()
+	{
+		@Override
+		protected ColumnReader computeValue(Class<?> type)
+		{
+			return getColumnReader(type, java.sql.Types.OTHER, null);
+		}
+	};
 	
 	static
 	{
@@ -250,120 +263,195 @@ public final class DatabaseBuilders
 		}
 	}
 	
+	/**
+	 * Reads the current row of the result set.
+	 * <p>
+	 * The metadata is resolved on every call; to read several rows, compile a {@link RowReader} once instead.
+	 */
 	public static TypedRowLite toTypedRowLite(ResultSet resultSet) throws DataAccessException
 	{
 		Objects.requireNonNull(resultSet, "resultSet");
 		
+		return RowReader.compile(resultSet).read(resultSet);
+	}
+	
+	public static Object readValue(ResultSet resultSet, int i, Class<?> resolvedType, int jdbcType) throws DataAccessException
+	{
 		try
 		{
-			ResultSetMetaData metadata = resultSet.getMetaData();
-			
-			Objects.requireNonNull(metadata, "resultSet.getMetaData()");
-			
-			int columnCount = metadata.getColumnCount();
-			
-			TypedSchema schema = TypedSchema.from(metadata);
-			
-			Object[] values = new Object[columnCount];
-			
-			for(int i = 1; i <= columnCount; i++)
-			{
-				int jdbcType = metadata.getColumnType(i);
-				
-				Class<?> type = resolveJavaType(metadata, i);
-				
-				values[i - 1] = readValue(resultSet, i, type, jdbcType);
-			}
-			
-			return new TypedRowLite(schema, values);
+			return getColumnReader(resolvedType, jdbcType, DriverCapabilities.of(resultSet)).read(resultSet, i);
 		}
 		catch(SQLException e)
 		{
-			String errorMessage = MessageUtil.getMessage(Messages.UNABLE_TO_OBTAIN_METADATA_ERROR);
-			
-			throw new DataAccessException(errorMessage, e);
+			throw new DataAccessException(e);
 		}
 	}
 	
-	public static Object readValue(ResultSet resultSet, int i, Class<?> resolvedType, int jdbcType) throws DataAccessException
+	/**
+	 * Reads a column as the given Java type, with the getter {@link #readValue} selects for it, for code that knows
+	 * the type of the value but not the JDBC type of the column, like the mappers generated for
+	 * {@link py.com.semp.lib.database.mapping.GenerateMapper}. Types without a dedicated getter are read with
+	 * {@code getObject(int, Class)}.
+	 * <p>
+	 * The getter is selected once per type, so reading a cell does not allocate beyond the value itself.
+	 *
+	 * @param <T> The type of the value.
+	 * @param resultSet The result set, positioned on a row.
+	 * @param i The index of the column, starting at 1.
+	 * @param type The type of the value.
+	 * @return the value, or {@code null}.
+	 * @throws SQLException if the value cannot be read as the given type.
+	 */
+	public static <T> T readObject(ResultSet resultSet, int i, Class<T> type) throws SQLException
 	{
-		try
+		Object value = OBJECT_READERS.get(type).read(resultSet, i);
+		
+		if(value == null || type.isInstance(value))
 		{
-			if(resolvedType == String.class)
-			{
-				if(jdbcType == java.sql.Types.SQLXML)
-				{
-					return getXMLString(resultSet, i);
-				}
-				else if(jdbcType == java.sql.Types.CLOB || jdbcType == java.sql.Types.NCLOB)
-				{
-					return getClobString(resultSet, i);
-				}
-				
-				return resultSet.getString(i);
-			}
-			else if(resolvedType == byte[].class)
-			{
-				boolean binaryArrayType = 
-					jdbcType == java.sql.Types.BINARY
-					|| jdbcType == java.sql.Types.VARBINARY
-					|| jdbcType == java.sql.Types.LONGVARBINARY;
-				
-				if(binaryArrayType)
-				{
-					return resultSet.getBytes(i);
-				}
-				else if(jdbcType == java.sql.Types.BLOB)
-				{
-					return getBlobByteArray(resultSet, i);
-				}
-			}
-			else if(resolvedType == java.time.OffsetDateTime.class)
-			{
-				return getOffsetDateTime(resultSet, i);
-			}
-			else if(resolvedType == java.time.OffsetTime.class)
-			{
-				return getOffsetTime(resultSet, i);
-			}
-			else if(resolvedType == java.time.LocalDate.class)
-			{
-				return getLocalDate(resultSet, i);
-			}
-			else if(resolvedType == java.time.LocalTime.class)
-			{
-				return getLocalTime(resultSet, i);
-			}
-			else if(resolvedType == java.time.LocalDateTime.class)
-			{
-				return getLocalDateTime(resultSet, i);
-			}
-			else if(resolvedType == Object[].class)
+			return type.cast(value);
+		}
+		
+		return resultSet.getObject(i, type);
+	}
+	
+	/**
+	 * Selects the getter used by {@link #readValue} for a column, so it can be chosen once per result set.
+	 * <p>
+	 * Values read with {@code getObject(int, Class)} use it only if the driver supports it for the type,
+	 * as recorded in the given {@link DriverCapabilities}, and the legacy getters otherwise. Without capabilities,
+	 * they are looked up from the result set on every read.
+	 *
+	 * @see RowReader
+	 */
+	static ColumnReader getColumnReader(Class<?> resolvedType, int jdbcType, DriverCapabilities capabilities)
+	{
+		if(resolvedType == String.class)
+		{
+			if(jdbcType == java.sql.Types.SQLXML)
 			{
-				return getObjectArray(resultSet, i);
+				return DatabaseBuilders::getXMLString;
 			}
-			else if(resolvedType == java.util.UUID.class)
+			else if(jdbcType == java.sql.Types.CLOB || jdbcType == java.sql.Types.NCLOB)
 			{
-				return getUUID(resultSet, i);
+				return DatabaseBuilders::getClobString;
 			}
-			else if(resolvedType == java.sql.RowId.class)
+			
+			return ResultSet::getString;
+		}
+		else if(resolvedType == byte[].class)
+		{
+			boolean binaryArrayType = 
+				jdbcType == java.sql.Types.BINARY
+				|| jdbcType == java.sql.Types.VARBINARY
+				|| jdbcType == java.sql.Types.LONGVARBINARY;
+			
+			if(binaryArrayType)
 			{
-				return resultSet.getRowId(i);
+				return ResultSet::getBytes;
 			}
-			else if(resolvedType == java.net.URL.class)
+			else if(jdbcType == java.sql.Types.BLOB)
 			{
-				return resultSet.getURL(i);
+				return DatabaseBuilders::getBlobByteArray;
 			}
-			else if(resolvedType == Object.class && jdbcType == java.sql.Types.ARRAY)
+		}
+		else if(resolvedType == java.time.OffsetDateTime.class)
+		{
+			return typedReader(java.time.OffsetDateTime.class, DatabaseBuilders::getOffsetDateTimeFromString, capabilities);
+		}
+		else if(resolvedType == java.time.OffsetTime.class)
+		{
+			return typedReader(java.time.OffsetTime.class, DatabaseBuilders::getOffsetTimeFromString, capabilities);
+		}
+		else if(resolvedType == java.time.LocalDate.class)
+		{
+			return typedReader(java.time.LocalDate.class, DatabaseBuilders::getLocalDateFromDate, capabilities);
+		}
+		else if(resolvedType == java.time.LocalTime.class)
+		{
+			return typedReader(java.time.LocalTime.class, DatabaseBuilders::getLocalTimeFromTime, capabilities);
+		}
+		else if(resolvedType == java.time.LocalDateTime.class)
+		{
+			return typedReader(java.time.LocalDateTime.class, DatabaseBuilders::getLocalDateTimeFromTimestamp, capabilities);
+		}
+		else if(resolvedType == Object[].class)
+		{
+			return DatabaseBuilders::getObjectArray;
+		}
+		else if(resolvedType == java.util.UUID.class)
+		{
+			return typedReader(java.util.UUID.class, DatabaseBuilders::getUUIDFromObject, capabilities);
+		}
+		else if(resolvedType == java.sql.RowId.class)
+		{
+			return ResultSet::getRowId;
+		}
+		else if(resolvedType == java.net.URL.class)
+		{
+			return ResultSet::getURL;
+		}
+		else if(resolvedType == Object.class && jdbcType == java.sql.Types.ARRAY)
+		{
+			return DatabaseBuilders::getArray;
+		}
+		
+		return ResultSet::getObject;
+	}
+	
+	/**
+	 * Returns a reader using {@code getObject(int, Class)} unless the driver is known not to support it for the type.
+	 */
+	private static ColumnReader typedReader(Class<?> type, ColumnReader fallback, DriverCapabilities capabilities)
+	{
+		if(capabilities != null && Boolean.FALSE.equals(capabilities.getTypedGetterSupport(type)))
+		{
+			return fallback;
+		}
+		
+		return (resultSet, i) -> getTyped(resultSet, i, type, fallback, capabilities != null ? capabilities : DriverCapabilities.of(resultSet));
+	}
+	
+	/**
+	 * Reads a value with {@code getObject(int, Class)}, probing the driver the first time the type is read
+	 * and recording whether it is supported, so unsupported drivers take the fallback without throwing again.
+	 * Any error on that first probe marks the type as unsupported, as older drivers reject the method with a plain
+	 * {@link SQLException}. Once the type has been read successfully, an error, like a value the driver cannot
+	 * convert, falls back for the current read only.
+	 */
+	private static Object getTyped(ResultSet resultSet, int i, Class<?> type, ColumnReader fallback, DriverCapabilities capabilities) throws SQLException
+	{
+		Boolean supported = capabilities.getTypedGetterSupport(type);
+		
+		if(Boolean.FALSE.equals(supported))
+		{
+			return fallback.read(resultSet, i);
+		}
+		
+		try
+		{
+			Object value = resultSet.getObject(i, type);
+			
+			if(supported == null)
 			{
-				return getArray(resultSet, i);
+				capabilities.setTypedGetterSupport(type, true);
 			}
 			
-			return resultSet.getObject(i);
+			return value;
 		}
-		catch(SQLException e)
+		catch(AbstractMethodError | SQLException e)
 		{
-			throw new DataAccessException(e);
+			if(supported == null)
+			{
+				capabilities.setTypedGetterSupport(type, false);
+				
+				Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+				
+				String debugMessage = MessageUtil.getMessage(Messages.TYPED_GETTER_NOT_SUPPORTED, resultSet.getClass().getName(), type.getName());
+				
+				logger.debug(debugMessage, e);
+			}
+			
+			return fallback.read(resultSet, i);
 		}
 	}
 	
@@ -395,19 +483,8 @@ public final class DatabaseBuilders
 		}
 	}
 	
-	private static java.util.UUID getUUID(ResultSet resultSet, int i) throws SQLException
+	private static java.util.UUID getUUIDFromObject(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.util.UUID.class);
-		}
-		catch(AbstractMethodError | SQLException ignore)
-		{
-			Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
-			
-			logger.debug(ignore);
-		}
-		
 		Object uuid = resultSet.getObject(i);
 		
 		if(uuid == null)
@@ -520,131 +597,105 @@ public final class DatabaseBuilders
 		}
 	}
 	
-	private static java.time.LocalDateTime getLocalDateTime(ResultSet resultSet, int i) throws SQLException
+	private static java.time.LocalDateTime getLocalDateTimeFromTimestamp(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.time.LocalDateTime.class);
-		}
-		catch(AbstractMethodError | SQLException e)
+		java.sql.Timestamp timeStamp = resultSet.getTimestamp(i);
+		
+		if(timeStamp == null)
 		{
-			java.sql.Timestamp timeStamp = resultSet.getTimestamp(i);
-			
-			if(timeStamp == null)
-			{
-				return null;
-			}
-			
-			return timeStamp.toLocalDateTime();
+			return null;
 		}
+		
+		return timeStamp.toLocalDateTime();
 	}
 	
-	private static java.time.LocalTime getLocalTime(ResultSet resultSet, int i) throws SQLException
+	private static java.time.LocalTime getLocalTimeFromTime(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.time.LocalTime.class);
-		}
-		catch(AbstractMethodError | SQLException e)
+		java.sql.Time time = resultSet.getTime(i);
+		
+		if(time == null)
 		{
-			java.sql.Time time = resultSet.getTime(i);
-			
-			if(time == null)
-			{
-				return null;
-			}
-			
-			return time.toLocalTime();
+			return null;
 		}
+		
+		return time.toLocalTime();
 	}
 	
-	private static java.time.LocalDate getLocalDate(ResultSet resultSet, int i) throws SQLException
+	private static java.time.LocalDate getLocalDateFromDate(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.time.LocalDate.class);
-		}
-		catch(AbstractMethodError | SQLException e)
+		java.sql.Date date = resultSet.getDate(i);
+		
+		if(date == null)
 		{
-			java.sql.Date date = resultSet.getDate(i);
-			
-			if(date == null)
-			{
-				return null;
-			}
-			
-			return date.toLocalDate();
+			return null;
 		}
+		
+		return date.toLocalDate();
 	}
 	
-	private static java.time.OffsetTime getOffsetTime(ResultSet resultSet, int i) throws SQLException
+	private static java.time.OffsetTime getOffsetTimeFromString(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.time.OffsetTime.class);
-		}
-		catch(AbstractMethodError | SQLException e)
+		String timeString = resultSet.getString(i);
+		
+		if(timeString != null)
 		{
-			String timeString = resultSet.getString(i);
-			
-			if(timeString != null)
+			try
 			{
-				try
-				{
-					return java.time.OffsetTime.parse(timeString);
-				}
-				catch(DateTimeParseException ignore)
-				{
-					Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
-					
-					logger.debug(ignore);
-				}
+				return java.time.OffsetTime.parse(timeString);
 			}
-			
-			java.sql.Time time = resultSet.getTime(i, UTC_CALENDAR.get());
-			
-			if(time == null)
+			catch(DateTimeParseException ignore)
 			{
-				return null;
+				Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+				
+				logger.debug(ignore);
 			}
-			
-			return time.toLocalTime().atOffset(java.time.ZoneOffset.UTC);
 		}
+		
+		java.sql.Time time = resultSet.getTime(i, newUTCCalendar());
+		
+		if(time == null)
+		{
+			return null;
+		}
+		
+		return time.toLocalTime().atOffset(java.time.ZoneOffset.UTC);
 	}
 	
-	private static java.time.OffsetDateTime getOffsetDateTime(ResultSet resultSet, int i) throws SQLException
+	private static java.time.OffsetDateTime getOffsetDateTimeFromString(ResultSet resultSet, int i) throws SQLException
 	{
-		try
-		{
-			return resultSet.getObject(i, java.time.OffsetDateTime.class);
-		}
-		catch(AbstractMethodError | SQLException e)
+		String dateString = resultSet.getString(i);
+		
+		if(dateString != null)
 		{
-			String dateString = resultSet.getString(i);
-			
-			if(dateString != null)
+			try
 			{
-				try
-				{
-					return java.time.OffsetDateTime.parse(dateString);
-				}
-				catch(DateTimeParseException ignore)
-				{
-					Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
-					
-					logger.debug(ignore);
-				}
+				return java.time.OffsetDateTime.parse(dateString);
 			}
-			
-			java.sql.Timestamp timeStamp = resultSet.getTimestamp(i, UTC_CALENDAR.get());
-			
-			if(timeStamp == null)
+			catch(DateTimeParseException ignore)
 			{
-				return null;
+				Logger logger = LoggerManager.getLogger(Values.Constants.DATABASE_CONTEXT);
+				
+				logger.debug(ignore);
 			}
-			
-			return timeStamp.toInstant().atOffset(java.time.ZoneOffset.UTC);
 		}
+		
+		java.sql.Timestamp timeStamp = resultSet.getTimestamp(i, newUTCCalendar());
+		
+		if(timeStamp == null)
+		{
+			return null;
+		}
+		
+		return timeStamp.toInstant().atOffset(java.time.ZoneOffset.UTC);
+	}
+	
+	/**
+	 * Creates the calendar used to read time zone less values as UTC.
+	 * Only needed by the fallback paths, so a fresh instance is cheaper than keeping one per thread.
+	 */
+	private static Calendar newUTCCalendar()
+	{
+		return Calendar.getInstance(UTC_TIME_ZONE);
 	}
 	
 	private static Object boxPrimitiveArray(Object primitiveArray)
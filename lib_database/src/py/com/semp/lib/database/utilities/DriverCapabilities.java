@@ -0,0 +1,60 @@
+package py.com.semp.lib.database.utilities;
+
+import java.sql.ResultSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What a JDBC driver supports, probed the first time each capability is used and shared by every
+ * result set of the same implementation class.
+ *
+ * <p>
+ * Currently records which types can be read with {@link ResultSet#getObject(int, Class)}. Older drivers
+ * throw {@link AbstractMethodError}, {@link java.sql.SQLFeatureNotSupportedException} or a plain
+ * {@link java.sql.SQLException} for it. A type is recorded as unsupported when its first read fails, and as supported
+ * when it succeeds; later failures of a supported type are not recorded. Once a type is recorded as unsupported,
+ * the readers selected by {@link DatabaseBuilders} go straight to the legacy getters, so reading a column
+ * does not throw an exception for every cell.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+final class DriverCapabilities
+{
+	private static final ClassValue<DriverCapabilities> CAPABILITIES = new ClassValue<DriverCapabilities>()
+	{
+		@Override
+		protected DriverCapabilities computeValue(Class<?> type)
+		{
+			return new DriverCapabilities();
+		}
+	};
+	
+	private final Map<Class<?>, Boolean> typedGetters = new ConcurrentHashMap<>();
+	
+	private DriverCapabilities()
+	{
+		super();
+	}
+	
+	/**
+	 * Gets the capabilities of the driver that produced the given result set.
+	 */
+	static DriverCapabilities of(ResultSet resultSet)
+	{
+		return CAPABILITIES.get(resultSet.getClass());
+	}
+	
+	/**
+	 * Returns whether {@code getObject(int, Class)} works for the given type, or {@code null} if not probed yet.
+	 */
+	Boolean getTypedGetterSupport(Class<?> type)
+	{
+		return this.typedGetters.get(type);
+	}
+	
+	void setTypedGetterSupport(Class<?> type, boolean supported)
+	{
+		this.typedGetters.putIfAbsent(type, supported);
+	}
+}
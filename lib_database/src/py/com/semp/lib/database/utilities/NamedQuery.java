@@ -0,0 +1,537 @@
+package py.com.semp.lib.database.utilities;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import py.com.semp.lib.database.configuration.Values;
+import py.com.semp.lib.database.connection.DatabaseConnection;
+import py.com.semp.lib.database.connection.DatabaseEngine;
+import py.com.semp.lib.database.internal.LruCache;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * A SQL query with named parameters compiled into a JDBC-compatible query and a binding plan.
+ *
+ * <p>
+ * Compiling replaces every {@code :name} with {@code ?} and records the parameter names in positional order.
+ * Compiled queries are cached by engine and SQL text, so each execution only has to pull the values
+ * from the map into the statement. Each cache keeps the {@code NAMED_QUERY_CACHE_SIZE} most recently used queries.
+ * </p>
+ *
+ * <h2>Lexical rules</h2>
+ * <ul>
+ *   <li>Parameters are not recognized inside quoted literals and identifiers ({@code '...'}, {@code "..."},
+ *       {@code `...`}), {@code --} and {@code /* *}{@code /} comments.</li>
+ *   <li>Quoting and comments follow the {@link DatabaseEngine} the query runs on: backslash escapes and
+ *       {@code #} comments for MySQL, where {@code --} must be followed by whitespace; nested block comments for
+ *       PostgreSQL and SQL Server; {@code E'...'} strings and dollar-quoted bodies ({@code $$...$$},
+ *       {@code $tag$...$tag$}) for PostgreSQL. Queries compiled without an engine use the PostgreSQL rules.</li>
+ *   <li>{@code ::type} casts and colons not followed by a name (e.g. {@code :=}) are kept verbatim.</li>
+ *   <li>Longer runs of colons keep the legacy escaping: {@code :::name} becomes {@code :?}
+ *       and {@code ::::name} becomes {@code ::name}.</li>
+ * </ul>
+ *
+ * <pre>{@code
+ * NamedQuery query = NamedQuery.compile("SELECT * FROM users WHERE status = :status AND age > :age");
+ *
+ * query.getSQL();        // SELECT * FROM users WHERE status = ? AND age > ?
+ * query.bind(ps, Map.of("status", "ACTIVE", "age", 18));
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author Sergio Morel
+ */
+public final class NamedQuery
+{
+	private static final Map<DatabaseEngine, LruCache<String, NamedQuery>> CACHE = new EnumMap<>(DatabaseEngine.class);
+	
+	static
+	{
+		for(DatabaseEngine engine : DatabaseEngine.values())
+		{
+			CACHE.put(engine, new LruCache<>(Values.Constants.NAMED_QUERY_CACHE_SIZE));
+		}
+	}
+	
+	private final String namedQuery;
+	private final String sql;
+	private final String[] parameterNames;
+	
+	private NamedQuery(String namedQuery, String sql, String[] parameterNames)
+	{
+		super();
+		
+		this.namedQuery = namedQuery;
+		this.sql = sql;
+		this.parameterNames = parameterNames;
+	}
+	
+	/**
+	 * Returns the compiled form of the given query with the PostgreSQL lexical rules,
+	 * compiling it only the first time it is seen.
+	 *
+	 * @param namedQuery The SQL query containing named parameters (e.g., {@code :param}).
+	 * @return the compiled query.
+	 * @throws IllegalArgumentException if the query is {@code null}.
+	 * @see #compile(String, DatabaseEngine)
+	 */
+	public static NamedQuery compile(String namedQuery)
+	{
+		return compile(namedQuery, null);
+	}
+	
+	/**
+	 * Returns the compiled form of the given query with the quoting and comment rules of the engine,
+	 * compiling it only the first time it is seen.
+	 * <p>
+	 * The {@code NAMED_QUERY_CACHE_SIZE} most recently used queries of each engine are cached.
+	 *
+	 * @param namedQuery The SQL query containing named parameters (e.g., {@code :param}).
+	 * @param engine The engine the query runs on, or {@code null} for the PostgreSQL rules.
+	 * @return the compiled query.
+	 * @throws IllegalArgumentException if the query is {@code null}.
+	 */
+	public static NamedQuery compile(String namedQuery, DatabaseEngine engine)
+	{
+		if(namedQuery == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_ARGUMENT_ERROR);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		if(engine == null)
+		{
+			engine = DatabaseEngine.POSTGRES;
+		}
+		
+		LruCache<String, NamedQuery> cache = CACHE.get(engine);
+		
+		NamedQuery compiled = cache.get(namedQuery);
+		
+		if(compiled != null)
+		{
+			return compiled;
+		}
+		
+		return cache.putIfAbsent(namedQuery, parse(namedQuery, engine));
+	}
+	
+	/**
+	 * Scans the query once, skipping the quoted text and comments of the engine, and replacing every
+	 * run of colons followed by an identifier outside of them. Text between replacements is copied in bulk,
+	 * and a query without parameters is returned as is.
+	 */
+	private static NamedQuery parse(String namedQuery, DatabaseEngine engine)
+	{
+		boolean backslashEscapes = engine.usesBackslashEscapes();
+		boolean nestedComments = engine.nestsBlockComments();
+		boolean dollarQuoting = engine.usesDollarQuoting();
+		boolean mysqlComments = engine.usesMySQLComments();
+		boolean escapeStrings = engine == DatabaseEngine.POSTGRES;
+		
+		char[] chars = namedQuery.toCharArray();
+		
+		int length = chars.length;
+		
+		StringBuilder sql = null;
+		
+		List<String> names = new ArrayList<>();
+		
+		int copied = 0;
+		int i = 0;
+		
+		while(i < length)
+		{
+			char c = chars[i];
+			
+			if(c == '\'' || (c == '"' && backslashEscapes))
+			{
+				i = skipQuoted(chars, i, c, backslashEscapes || (escapeStrings && isEscapeString(chars, i)));
+			}
+			else if(c == '"' || c == '`')
+			{
+				i = skipQuoted(chars, i, c, false);
+			}
+			else if(c == '-' && i + 1 < length && chars[i + 1] == '-' && (!mysqlComments || i + 2 == length || Character.isWhitespace(chars[i + 2])))
+			{
+				i = skipLineComment(chars, i);
+			}
+			else if(c == '#' && mysqlComments)
+			{
+				i = skipLineComment(chars, i);
+			}
+			else if(c == '/' && i + 1 < length && chars[i + 1] == '*')
+			{
+				i = skipBlockComment(chars, i, nestedComments);
+			}
+			else if(c == '$' && dollarQuoting)
+			{
+				i = skipDollarQuoted(chars, i);
+			}
+			else if(c != ':')
+			{
+				i++;
+			}
+			else
+			{
+				int colonsEnd = i;
+				
+				while(colonsEnd < length && chars[colonsEnd] == ':')
+				{
+					colonsEnd++;
+				}
+				
+				int colons = colonsEnd - i;
+				
+				// Not followed by a name (e.g. ':=' or a lone colon) or a '::type' cast: kept verbatim
+				if(colonsEnd == length || !isIdentifierStart(chars[colonsEnd]) || colons == 2)
+				{
+					i = colonsEnd;
+					
+					continue;
+				}
+				
+				int nameEnd = colonsEnd + 1;
+				
+				while(nameEnd < length && isIdentifierPart(chars[nameEnd]))
+				{
+					nameEnd++;
+				}
+				
+				if(sql == null)
+				{
+					sql = new StringBuilder(length);
+				}
+				
+				sql.append(chars, copied, i - copied);
+				
+				if(colons % 2 == 0)
+				{
+					appendColons(sql, colons / 2);
+					
+					sql.append(chars, colonsEnd, nameEnd - colonsEnd);
+				}
+				else
+				{
+					appendColons(sql, (colons - 1) / 2);
+					
+					sql.append('?');
+					
+					names.add(new String(chars, colonsEnd, nameEnd - colonsEnd));
+				}
+				
+				copied = nameEnd;
+				i = nameEnd;
+			}
+		}
+		
+		String jdbcSQL = namedQuery;
+		
+		if(sql != null)
+		{
+			jdbcSQL = sql.append(chars, copied, length - copied).toString();
+		}
+		
+		return new NamedQuery(namedQuery, jdbcSQL, names.toArray(new String[0]));
+	}
+	
+	/**
+	 * Returns the index after a quoted literal or identifier starting at {@code start}.
+	 * A doubled quote is an escaped quote, and so is a backslash-escaped one in MySQL strings
+	 * and PostgreSQL {@code E'...'} strings.
+	 */
+	private static int skipQuoted(char[] chars, int start, char quote, boolean backslashEscapes)
+	{
+		int i = start + 1;
+		
+		while(i < chars.length)
+		{
+			char c = chars[i];
+			
+			if(backslashEscapes && c == '\\')
+			{
+				i += 2;
+			}
+			else if(c != quote)
+			{
+				i++;
+			}
+			else if(i + 1 < chars.length && chars[i + 1] == quote)
+			{
+				i += 2;
+			}
+			else
+			{
+				return i + 1;
+			}
+		}
+		
+		return chars.length;
+	}
+	
+	private static boolean isEscapeString(char[] chars, int quote)
+	{
+		if(quote == 0 || (chars[quote - 1] != 'E' && chars[quote - 1] != 'e'))
+		{
+			return false;
+		}
+		
+		return quote == 1 || !isIdentifierPart(chars[quote - 2]);
+	}
+	
+	/**
+	 * Returns the index after a {@code --} or {@code #} comment, including its line break.
+	 */
+	private static int skipLineComment(char[] chars, int start)
+	{
+		int i = start + 1;
+		
+		while(i < chars.length && chars[i] != '\n')
+		{
+			i++;
+		}
+		
+		return Math.min(i + 1, chars.length);
+	}
+	
+	/**
+	 * Returns the index after a {@code /* *}{@code /} comment, which may be nested as in PostgreSQL
+	 * if {@code nested} is set, or ends at the first terminator otherwise.
+	 */
+	private static int skipBlockComment(char[] chars, int start, boolean nested)
+	{
+		int depth = 1;
+		int i = start + 2;
+		
+		while(i < chars.length)
+		{
+			if(nested && chars[i] == '/' && i + 1 < chars.length && chars[i + 1] == '*')
+			{
+				depth++;
+				
+				i += 2;
+			}
+			else if(chars[i] == '*' && i + 1 < chars.length && chars[i + 1] == '/')
+			{
+				i += 2;
+				
+				if(--depth == 0)
+				{
+					return i;
+				}
+			}
+			else
+			{
+				i++;
+			}
+		}
+		
+		return chars.length;
+	}
+	
+	/**
+	 * Returns the index after a PostgreSQL dollar-quoted body ({@code $$...$$} or {@code $tag$...$tag$}) starting
+	 * at {@code start}, or the next index if the dollar sign does not open one, as in {@code $1} or {@code a$b}.
+	 */
+	private static int skipDollarQuoted(char[] chars, int start)
+	{
+		if(start > 0 && (isIdentifierPart(chars[start - 1]) || chars[start - 1] == '$'))
+		{
+			return start + 1;
+		}
+		
+		int tagEnd = start + 1;
+		
+		if(tagEnd < chars.length && isIdentifierStart(chars[tagEnd]))
+		{
+			while(tagEnd < chars.length && isIdentifierPart(chars[tagEnd]))
+			{
+				tagEnd++;
+			}
+		}
+		
+		if(tagEnd >= chars.length || chars[tagEnd] != '$')
+		{
+			return start + 1;
+		}
+		
+		int tagLength = tagEnd - start + 1;
+		
+		for(int i = tagEnd + 1; i + tagLength <= chars.length; i++)
+		{
+			if(chars[i] == '$' && regionMatches(chars, i, start, tagLength))
+			{
+				return i + tagLength;
+			}
+		}
+		
+		return chars.length;
+	}
+	
+	private static boolean regionMatches(char[] chars, int offset, int other, int length)
+	{
+		for(int i = 0; i < length; i++)
+		{
+			if(chars[offset + i] != chars[other + i])
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private static void appendColons(StringBuilder sql, int count)
+	{
+		for(int i = 0; i < count; i++)
+		{
+			sql.append(':');
+		}
+	}
+	
+	private static boolean isIdentifierStart(char c)
+	{
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+	}
+	
+	private static boolean isIdentifierPart(char c)
+	{
+		return isIdentifierStart(c) || (c >= '0' && c <= '9');
+	}
+	
+	/**
+	 * Gets the original query with named parameters.
+	 */
+	public String getNamedQuery()
+	{
+		return this.namedQuery;
+	}
+	
+	/**
+	 * Gets the JDBC-compatible query, with {@code ?} placeholders.
+	 */
+	public String getSQL()
+	{
+		return this.sql;
+	}
+	
+	/**
+	 * Gets the number of {@code ?} placeholders in the JDBC-compatible query.
+	 */
+	public int getParameterCount()
+	{
+		return this.parameterNames.length;
+	}
+	
+	/**
+	 * Gets the name of the parameter bound at the given zero-based position.
+	 */
+	public String getParameterName(int index)
+	{
+		return this.parameterNames[index];
+	}
+	
+	/**
+	 * Gets the parameter names in positional order. A name appears once per occurrence in the query.
+	 */
+	public List<String> getParameterNames()
+	{
+		return Collections.unmodifiableList(Arrays.asList(this.parameterNames));
+	}
+	
+	/**
+	 * Binds the values of the named parameters to the given statement, prepared from {@link #getSQL()}.
+	 *
+	 * @param preparedStatement The statement to bind.
+	 * @param valuesMap A map from parameter names to their corresponding values.
+	 * @throws DataAccessException if a parameter is missing from {@code valuesMap} or cannot be set.
+	 * @throws IllegalArgumentException if {@code valuesMap} is {@code null}.
+	 */
+	public void bind(PreparedStatement preparedStatement, Map<String, Object> valuesMap) throws DataAccessException
+	{
+		this.bind(preparedStatement, 0, valuesMap);
+	}
+	
+	/**
+	 * Binds the values of the named parameters to the given statement starting after the given number of parameters,
+	 * used when the statement repeats the parameters of this query, like a multi-row insert.
+	 *
+	 * @param preparedStatement The statement to bind.
+	 * @param offset The number of parameters of the statement preceding the ones of this query.
+	 * @param valuesMap A map from parameter names to their corresponding values.
+	 * @throws DataAccessException if a parameter is missing from {@code valuesMap} or cannot be set.
+	 * @throws IllegalArgumentException if {@code valuesMap} is {@code null}.
+	 */
+	public void bind(PreparedStatement preparedStatement, int offset, Map<String, Object> valuesMap) throws DataAccessException
+	{
+		if(valuesMap == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_ARGUMENT_ERROR);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		for(int i = 0; i < this.parameterNames.length; i++)
+		{
+			DatabaseConnection.setParameterStatement(preparedStatement, offset + i, this.getValue(valuesMap, i));
+		}
+	}
+	
+	/**
+	 * Returns the values of the named parameters in positional order.
+	 *
+	 * @param valuesMap A map from parameter names to their corresponding values.
+	 * @return the positional values.
+	 * @throws DataAccessException if a parameter is missing from {@code valuesMap}.
+	 * @throws IllegalArgumentException if {@code valuesMap} is {@code null}.
+	 */
+	public Object[] getValues(Map<String, Object> valuesMap) throws DataAccessException
+	{
+		if(valuesMap == null)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.NULL_ARGUMENT_ERROR);
+			
+			throw new IllegalArgumentException(errorMessage);
+		}
+		
+		Object[] values = new Object[this.parameterNames.length];
+		
+		for(int i = 0; i < values.length; i++)
+		{
+			values[i] = this.getValue(valuesMap, i);
+		}
+		
+		return values;
+	}
+	
+	private Object getValue(Map<String, Object> valuesMap, int index) throws DataAccessException
+	{
+		String name = this.parameterNames[index];
+		
+		Object value = valuesMap.get(name);
+		
+		if(value == null && !valuesMap.containsKey(name))
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.MISSING_VALUE_ERROR, name);
+			
+			throw new DataAccessException(errorMessage);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return this.sql;
+	}
+}
@@ -0,0 +1,357 @@
+package py.com.semp.lib.database.utilities;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Objects;
+
+import py.com.semp.lib.database.data.ColumnarResult;
+import py.com.semp.lib.database.data.RowView;
+import py.com.semp.lib.database.data.RowWriter;
+import py.com.semp.lib.database.data.TypedRowLite;
+import py.com.semp.lib.database.data.TypedSchema;
+import py.com.semp.lib.database.internal.MessageUtil;
+import py.com.semp.lib.database.internal.Messages;
+import py.com.semp.lib.utilidades.exceptions.DataAccessException;
+
+/**
+ * Reads the rows of a result set into {@link TypedRowLite} instances, compiled once per result set.
+ *
+ * <p>
+ * Compiling resolves the {@link TypedSchema} shared by all rows and selects the getter of every column up front,
+ * with the same type mapping as {@link DatabaseBuilders#readValue(ResultSet, int, Class, int)}, skipping the typed
+ * getters the driver is known not to support.
+ * Reading a row then only calls those getters and fills one {@code Object[]}.
+ * </p>
+ *
+ * <pre>{@code
+ * RowReader reader = RowReader.compile(resultSet);
+ *
+ * while(resultSet.next())
+ * {
+ *     TypedRowLite row = reader.read(resultSet);
+ * }
+ * }</pre>
+ *
+ * <p>Instances are immutable and can read any result set with the same columns.</p>
+ *
+ * @author Sergio Morel
+ */
+public final class RowReader
+{
+	private final TypedSchema schema;
+	private final ColumnReader[] readers;
+	private final CellCopier[] copiers;
+	
+	private RowReader(TypedSchema schema, ColumnReader[] readers)
+	{
+		super();
+		
+		this.schema = schema;
+		this.readers = readers;
+		this.copiers = new CellCopier[readers.length];
+		
+		for(int i = 0; i < readers.length; i++)
+		{
+			this.copiers[i] = this.getCellCopier(i);
+		}
+	}
+	
+	/**
+	 * Compiles a reader for the columns of the given result set.
+	 *
+	 * @param resultSet The result set to read.
+	 * @return the compiled reader.
+	 * @throws DataAccessException if the metadata cannot be read.
+	 */
+	public static RowReader compile(ResultSet resultSet) throws DataAccessException
+	{
+		Objects.requireNonNull(resultSet, "resultSet");
+		
+		try
+		{
+			return compile(resultSet.getMetaData(), DriverCapabilities.of(resultSet));
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.UNABLE_TO_OBTAIN_METADATA_ERROR);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+	}
+	
+	/**
+	 * Compiles a reader for the columns described by the given metadata.
+	 * <p>
+	 * Without the result set, the capabilities of the driver are looked up when reading;
+	 * prefer {@link #compile(ResultSet)} when the result set is available.
+	 *
+	 * @param metadata The metadata of the result set to read.
+	 * @return the compiled reader.
+	 * @throws DataAccessException if the metadata cannot be read.
+	 */
+	public static RowReader compile(ResultSetMetaData metadata) throws DataAccessException
+	{
+		Objects.requireNonNull(metadata, "metadata");
+		
+		return compile(metadata, null);
+	}
+	
+	private static RowReader compile(ResultSetMetaData metadata, DriverCapabilities capabilities) throws DataAccessException
+	{
+		TypedSchema schema = DatabaseBuilders.getTypedSchema(metadata);
+		
+		ColumnReader[] readers = new ColumnReader[schema.size()];
+		
+		try
+		{
+			for(int i = 0; i < readers.length; i++)
+			{
+				readers[i] = DatabaseBuilders.getColumnReader(schema.getType(i), metadata.getColumnType(i + 1), capabilities);
+			}
+		}
+		catch(SQLException e)
+		{
+			String errorMessage = MessageUtil.getMessage(Messages.UNABLE_TO_OBTAIN_METADATA_ERROR);
+			
+			throw new DataAccessException(errorMessage, e);
+		}
+		
+		return new RowReader(schema, readers);
+	}
+	
+	/**
+	 * Gets the schema shared by every row read.
+	 */
+	public TypedSchema getSchema()
+	{
+		return this.schema;
+	}
+	
+	/**
+	 * Reads the current row of the result set.
+	 * Primitive columns are read with the primitive getters and {@link ResultSet#wasNull()}, without boxing.
+	 *
+	 * @param resultSet The result set, positioned on a row.
+	 * @return the row.
+	 * @throws DataAccessException if a value cannot be read.
+	 */
+	public TypedRowLite read(ResultSet resultSet) throws DataAccessException
+	{
+		TypedRowLite.Builder builder = TypedRowLite.builder(this.schema);
+		
+		this.copyRow(resultSet, builder);
+		
+		return builder.build();
+	}
+	
+	/**
+	 * Refills the given view with the current row of the result set. Primitive columns are read without
+	 * boxing into the storage of the view, so reading numeric columns allocates nothing.
+	 *
+	 * @param resultSet The result set, positioned on a row.
+	 * @param view A view created with the schema of this reader.
+	 * @return the view.
+	 * @throws DataAccessException if a value cannot be read.
+	 */
+	public RowView read(ResultSet resultSet, RowView view) throws DataAccessException
+	{
+		this.copyRow(resultSet, view.clear());
+		
+		return view;
+	}
+	
+	/**
+	 * Copies the current row of the result set into the given writer, created with the schema of this reader.
+	 *
+	 * @param resultSet The result set, positioned on a row.
+	 * @param writer The writer of the row.
+	 * @throws DataAccessException if a value cannot be read.
+	 */
+	public void copyRow(ResultSet resultSet, RowWriter writer) throws DataAccessException
+	{
+		try
+		{
+			for(int i = 0; i < this.copiers.length; i++)
+			{
+				this.copiers[i].copy(resultSet, i, writer);
+			}
+		}
+		catch(SQLException e)
+		{
+			throw new DataAccessException(e);
+		}
+	}
+	
+	/**
+	 * Reads every remaining row of the result set into a {@link ColumnarResult}.
+	 * <p>
+	 * Primitive columns are read with the primitive getters and {@link ResultSet#wasNull()},
+	 * so their values are never boxed.
+	 * </p>
+	 *
+	 * @param resultSet The result set, positioned before the first row to read.
+	 * @return the rows, stored by column.
+	 * @throws DataAccessException if a row cannot be read.
+	 */
+	public ColumnarResult readColumnar(ResultSet resultSet) throws DataAccessException
+	{
+		ColumnarResult.Builder builder = ColumnarResult.builder(this.schema);
+		
+		this.readColumnar(resultSet, builder);
+		
+		return builder.build();
+	}
+	
+	/**
+	 * Appends every remaining row of the result set to the given builder.
+	 *
+	 * @param resultSet The result set, positioned before the first row to read.
+	 * @param builder A builder created with the schema of this reader.
+	 * @throws DataAccessException if a row cannot be read.
+	 * @see #readColumnar(ResultSet)
+	 */
+	public void readColumnar(ResultSet resultSet, ColumnarResult.Builder builder) throws DataAccessException
+	{
+		try
+		{
+			while(resultSet.next())
+			{
+				for(int i = 0; i < this.copiers.length; i++)
+				{
+					this.copiers[i].copy(resultSet, i, builder);
+				}
+				
+				builder.nextRow();
+			}
+		}
+		catch(SQLException e)
+		{
+			throw new DataAccessException(e);
+		}
+	}
+	
+	private CellCopier getCellCopier(int column)
+	{
+		Class<?> storageType = this.schema.getStorageType(column);
+		Class<?> type = this.schema.getType(column);
+		
+		if(storageType == int.class)
+		{
+			if(type == Byte.class)
+			{
+				return (resultSet, i, writer) -> copyInt(resultSet.getByte(i + 1), resultSet, i, writer);
+			}
+			else if(type == Short.class)
+			{
+				return (resultSet, i, writer) -> copyInt(resultSet.getShort(i + 1), resultSet, i, writer);
+			}
+			
+			return (resultSet, i, writer) -> copyInt(resultSet.getInt(i + 1), resultSet, i, writer);
+		}
+		else if(storageType == long.class)
+		{
+			return (resultSet, i, writer) ->
+			{
+				long value = resultSet.getLong(i + 1);
+				
+				if(resultSet.wasNull())
+				{
+					writer.setNull(i);
+				}
+				else
+				{
+					writer.setLong(i, value);
+				}
+			};
+		}
+		else if(storageType == double.class)
+		{
+			if(type == Float.class)
+			{
+				return (resultSet, i, writer) -> copyDouble(resultSet.getFloat(i + 1), resultSet, i, writer);
+			}
+			
+			return (resultSet, i, writer) -> copyDouble(resultSet.getDouble(i + 1), resultSet, i, writer);
+		}
+		else if(storageType == boolean.class)
+		{
+			return (resultSet, i, writer) ->
+			{
+				boolean value = resultSet.getBoolean(i + 1);
+				
+				if(resultSet.wasNull())
+				{
+					writer.setNull(i);
+				}
+				else
+				{
+					writer.setBoolean(i, value);
+				}
+			};
+		}
+		
+		ColumnReader reader = this.readers[column];
+		
+		return (resultSet, i, writer) -> writer.setObject(i, reader.read(resultSet, i + 1));
+	}
+	
+	private static void copyInt(int value, ResultSet resultSet, int column, RowWriter writer) throws SQLException
+	{
+		if(resultSet.wasNull())
+		{
+			writer.setNull(column);
+		}
+		else
+		{
+			writer.setInt(column, value);
+		}
+	}
+	
+	private static void copyDouble(double value, ResultSet resultSet, int column, RowWriter writer) throws SQLException
+	{
+		if(resultSet.wasNull())
+		{
+			writer.setNull(column);
+		}
+		else
+		{
+			writer.setDouble(column, value);
+		}
+	}
+	
+	/**
+	 * Copies one cell of the current row into the writer, with the getter selected for the column.
+	 */
+	@FunctionalInterface
+	private interface CellCopier
+	{
+		void copy(ResultSet resultSet, int column, RowWriter writer) throws SQLException;
+	}
+	
+	/**
+	 * Reads the values of the current row of the result set, in column order.
+	 *
+	 * @param resultSet The result set, positioned on a row.
+	 * @return the values of the row.
+	 * @throws DataAccessException if a value cannot be read.
+	 */
+	public Object[] readValues(ResultSet resultSet) throws DataAccessException
+	{
+		Object[] values = new Object[this.readers.length];
+		
+		try
+		{
+			for(int i = 0; i < values.length; i++)
+			{
+				values[i] = this.readers[i].read(resultSet, i + 1);
+			}
+		}
+		catch(SQLException e)
+		{
+			throw new DataAccessException(e);
+		}
+		
+		return values;
+	}
+}
@@ -0,0 +1,9 @@
+/**
+ * @author Sergio Morel
+ */
+module lib_database_processor
+{
+	requires java.compiler;
+	
+	provides javax.annotation.processing.Processor with py.com.semp.lib.database.processor.MapperProcessor;
+}
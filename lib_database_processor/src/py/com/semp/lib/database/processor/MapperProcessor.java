@@ -0,0 +1,685 @@
+package py.com.semp.lib.database.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the JDBC mapper of every record or class annotated with {@code py.com.semp.lib.database.mapping.GenerateMapper}.
+ *
+ * <p>
+ * For a type {@code Event}, the class {@code EventJdbcMapper} is written to the same package, implementing
+ * {@code ResultSetMapper<Event>} and {@code ParameterBinder<Event>}. The properties of the type, record components or
+ * fields with a getter and a setter, are read from and bound to consecutive columns and parameters, in declaration order.
+ * </p>
+ *
+ * <p>
+ * Primitives and their wrappers, {@code String}, {@code BigDecimal}, {@code byte[]}, the {@code java.sql} date and time
+ * types and enums (by constant name) use the typed getters and setters of JDBC, checking {@code wasNull()} for
+ * wrappers. Any other type is read with {@code DatabaseBuilders.readObject}, which follows the rules of
+ * {@code DatabaseBuilders.readValue}, and bound with the binder registered for its class in {@code ValueBinders}.
+ * </p>
+ *
+ * <p>
+ * The processor does not depend on {@code lib_database}, it only needs to be on the annotation processor path
+ * of the modules declaring the annotated types.
+ * </p>
+ *
+ * @author Sergio Morel
+ */
+@SupportedAnnotationTypes(MapperProcessor.ANNOTATION)
+public final class MapperProcessor extends AbstractProcessor
+{
+	static final String ANNOTATION = "py.com.semp.lib.database.mapping.GenerateMapper";
+	
+	private static final String SUFFIX = "JdbcMapper";
+	private static final Set<String> RESERVED_NAMES = Set.of("resultSet", "preparedStatement", "offset", "row");
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment)
+	{
+		for(TypeElement annotation : annotations)
+		{
+			for(Element element : roundEnvironment.getElementsAnnotatedWith(annotation))
+			{
+				try
+				{
+					this.generate(element);
+				}
+				catch(MappingException e)
+				{
+					this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+				}
+				catch(IOException e)
+				{
+					this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write the mapper of " + element + ": " + e.getMessage(), element);
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	private void generate(Element element) throws MappingException, IOException
+	{
+		if(element.getKind() != ElementKind.RECORD && element.getKind() != ElementKind.CLASS)
+		{
+			throw new MappingException(element, "@GenerateMapper is only allowed on records and classes");
+		}
+		
+		TypeElement type = (TypeElement) element;
+		
+		this.checkType(type);
+		
+		List<Property> properties = type.getKind() == ElementKind.RECORD ? this.getComponents(type) : this.getBeanProperties(type);
+		
+		if(properties.isEmpty())
+		{
+			throw new MappingException(type, "@GenerateMapper found no properties in " + type.getQualifiedName());
+		}
+		
+		PackageElement packageElement = this.processingEnv.getElementUtils().getPackageOf(type);
+		
+		String packageName = packageElement.getQualifiedName().toString();
+		String mapperName = this.getMapperName(type);
+		String qualifiedName = packageName.isEmpty() ? mapperName : packageName + "." + mapperName;
+		
+		String source = this.writeMapper(type, packageName, mapperName, properties);
+		
+		try(Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter())
+		{
+			writer.write(source);
+		}
+	}
+	
+	private void checkType(TypeElement type) throws MappingException
+	{
+		Set<Modifier> modifiers = type.getModifiers();
+		
+		if(modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.ABSTRACT))
+		{
+			throw new MappingException(type, "@GenerateMapper types cannot be private or abstract");
+		}
+		
+		if(type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC) && type.getKind() != ElementKind.RECORD)
+		{
+			throw new MappingException(type, "@GenerateMapper nested classes must be static");
+		}
+		
+		if(type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+		{
+			throw new MappingException(type, "@GenerateMapper types must be top level or nested");
+		}
+		
+		if(!type.getTypeParameters().isEmpty())
+		{
+			throw new MappingException(type, "@GenerateMapper types cannot be generic");
+		}
+	}
+	
+	private List<Property> getComponents(TypeElement type)
+	{
+		List<Property> properties = new ArrayList<>();
+		
+		for(RecordComponentElement component : type.getRecordComponents())
+		{
+			String name = component.getSimpleName().toString();
+			
+			properties.add(new Property(name, component.asType(), component.getAccessor().getSimpleName().toString(), null));
+		}
+		
+		return properties;
+	}
+	
+	private List<Property> getBeanProperties(TypeElement type) throws MappingException
+	{
+		boolean constructor = false;
+		
+		for(ExecutableElement method : ElementFilter.constructorsIn(type.getEnclosedElements()))
+		{
+			if(method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.PRIVATE))
+			{
+				constructor = true;
+			}
+		}
+		
+		if(!constructor)
+		{
+			throw new MappingException(type, "@GenerateMapper classes need a non-private constructor without parameters");
+		}
+		
+		List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+		List<Property> properties = new ArrayList<>();
+		
+		for(VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+		{
+			Set<Modifier> modifiers = field.getModifiers();
+			
+			if(modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT))
+			{
+				continue;
+			}
+			
+			String name = field.getSimpleName().toString();
+			String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+			
+			String getter = this.findMethod(methods, field.asType(), "get" + capitalized, false);
+			
+			if(getter == null && field.asType().getKind() == TypeKind.BOOLEAN)
+			{
+				getter = this.findMethod(methods, field.asType(), "is" + capitalized, false);
+			}
+			
+			String setter = this.findMethod(methods, field.asType(), "set" + capitalized, true);
+			
+			if(getter != null && setter != null)
+			{
+				properties.add(new Property(name, field.asType(), getter, setter));
+			}
+		}
+		
+		return properties;
+	}
+	
+	/**
+	 * Finds a non-private, non-static getter returning the given type or a setter taking it.
+	 */
+	private String findMethod(List<ExecutableElement> methods, TypeMirror type, String name, boolean setter)
+	{
+		for(ExecutableElement method : methods)
+		{
+			if(!method.getSimpleName().contentEquals(name) || method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC))
+			{
+				continue;
+			}
+			
+			if(setter && method.getParameters().size() == 1 && this.isSameType(method.getParameters().get(0).asType(), type))
+			{
+				return name;
+			}
+			
+			if(!setter && method.getParameters().isEmpty() && this.isSameType(method.getReturnType(), type))
+			{
+				return name;
+			}
+		}
+		
+		return null;
+	}
+	
+	private boolean isSameType(TypeMirror first, TypeMirror second)
+	{
+		return this.processingEnv.getTypeUtils().isSameType(first, second);
+	}
+	
+	/**
+	 * Names the mapper after the type, prefixed with its enclosing types.
+	 */
+	private String getMapperName(TypeElement type)
+	{
+		StringBuilder name = new StringBuilder(type.getSimpleName());
+		
+		Element enclosing = type.getEnclosingElement();
+		
+		while(enclosing instanceof TypeElement)
+		{
+			name.insert(0, '_').insert(0, enclosing.getSimpleName());
+			
+			enclosing = enclosing.getEnclosingElement();
+		}
+		
+		return name.append(SUFFIX).toString();
+	}
+	
+	private String writeMapper(TypeElement type, String packageName, String mapperName, List<Property> properties) throws MappingException
+	{
+		String typeName = type.getQualifiedName().toString();
+		
+		boolean unchecked = false;
+		
+		for(Property property : properties)
+		{
+			property.column = this.getColumnType(type, property);
+			
+			unchecked |= property.column == ColumnType.OBJECT && !property.getTypeName().equals(property.getRawTypeName());
+		}
+		
+		StringBuilder source = new StringBuilder();
+		
+		if(!packageName.isEmpty())
+		{
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+		
+		source.append("import java.sql.PreparedStatement;\n");
+		source.append("import java.sql.ResultSet;\n");
+		source.append("import java.sql.SQLException;\n");
+		source.append("import java.sql.Types;\n\n");
+		source.append("import py.com.semp.lib.database.mapping.ParameterBinder;\n");
+		source.append("import py.com.semp.lib.database.mapping.ResultSetMapper;\n");
+		source.append("import py.com.semp.lib.database.mapping.ValueBinders;\n");
+		source.append("import py.com.semp.lib.database.utilities.DatabaseBuilders;\n\n");
+		source.append("/**\n");
+		source.append(" * Maps {@link ").append(typeName).append("} from and to JDBC, generated for its {@code @GenerateMapper} annotation.\n");
+		source.append(" */\n");
+		
+		if(type.getModifiers().contains(Modifier.PUBLIC))
+		{
+			source.append("public ");
+		}
+		
+		source.append("final class ").append(mapperName).append(" implements ResultSetMapper<").append(typeName).append(">, ParameterBinder<").append(typeName).append(">\n");
+		source.append("{\n");
+		source.append("\tpublic static final ").append(mapperName).append(" INSTANCE = new ").append(mapperName).append("();\n");
+		source.append("\t\n");
+		
+		if(unchecked)
+		{
+			source.append("\t@SuppressWarnings(\"unchecked\")\n");
+		}
+		
+		source.append("\t@Override\n");
+		source.append("\tpublic ").append(typeName).append(" map(ResultSet resultSet) throws SQLException\n");
+		source.append("\t{\n");
+		
+		for(int i = 0; i < properties.size(); i++)
+		{
+			this.writeRead(source, properties.get(i), i + 1);
+		}
+		
+		if(type.getKind() == ElementKind.RECORD)
+		{
+			source.append("\t\t\n");
+			source.append("\t\treturn new ").append(typeName).append("(");
+			
+			for(int i = 0; i < properties.size(); i++)
+			{
+				source.append(i > 0 ? ", " : "").append(properties.get(i).getLocalName());
+			}
+			
+			source.append(");\n");
+		}
+		else
+		{
+			source.append("\t\t\n");
+			source.append("\t\t").append(typeName).append(" row = new ").append(typeName).append("();\n");
+			source.append("\t\t\n");
+			
+			for(Property property : properties)
+			{
+				source.append("\t\trow.").append(property.setter).append("(").append(property.getLocalName()).append(");\n");
+			}
+			
+			source.append("\t\t\n");
+			source.append("\t\treturn row;\n");
+		}
+		
+		source.append("\t}\n");
+		source.append("\t\n");
+		source.append("\t@Override\n");
+		source.append("\tpublic void bind(PreparedStatement preparedStatement, int offset, ").append(typeName).append(" row) throws SQLException\n");
+		source.append("\t{\n");
+		
+		for(int i = 0; i < properties.size(); i++)
+		{
+			this.writeBind(source, properties.get(i), i + 1);
+		}
+		
+		source.append("\t}\n");
+		source.append("}\n");
+		
+		return this.collapseBlankLines(source.toString());
+	}
+	
+	/**
+	 * Removes the repeated blank lines left between blocks, and the ones closing a method.
+	 */
+	private String collapseBlankLines(String source)
+	{
+		String collapsed = source;
+		
+		while(collapsed.contains("\t\t\n\t\t\n"))
+		{
+			collapsed = collapsed.replace("\t\t\n\t\t\n", "\t\t\n");
+		}
+		
+		return collapsed.replace("\t\t\n\t}\n", "\t}\n");
+	}
+	
+	private void writeRead(StringBuilder source, Property property, int column)
+	{
+		String local = property.getLocalName();
+		String typeName = property.getTypeName();
+		
+		switch(property.column)
+		{
+			case PRIMITIVE:
+			{
+				source.append("\t\t").append(typeName).append(" ").append(local).append(" = resultSet.get").append(property.getGetterSuffix()).append("(").append(column).append(");\n");
+				
+				break;
+			}
+			case WRAPPER:
+			{
+				source.append("\t\t").append(typeName).append(" ").append(local).append(" = resultSet.get").append(property.getGetterSuffix()).append("(").append(column).append(");\n");
+				source.append("\t\t\n");
+				source.append("\t\tif(resultSet.wasNull())\n");
+				source.append("\t\t{\n");
+				source.append("\t\t\t").append(local).append(" = null;\n");
+				source.append("\t\t}\n");
+				source.append("\t\t\n");
+				
+				break;
+			}
+			case DIRECT:
+			{
+				source.append("\t\t").append(typeName).append(" ").append(local).append(" = resultSet.get").append(property.getGetterSuffix()).append("(").append(column).append(");\n");
+				
+				break;
+			}
+			case ENUM:
+			{
+				source.append("\t\tString ").append(local).append("$name = resultSet.getString(").append(column).append(");\n");
+				source.append("\t\t").append(typeName).append(" ").append(local).append(" = ").append(local).append("$name != null ? ").append(typeName).append(".valueOf(").append(local).append("$name) : null;\n");
+				
+				break;
+			}
+			default:
+			{
+				source.append("\t\t").append(typeName).append(" ").append(local).append(" = ");
+				
+				if(!typeName.equals(property.getRawTypeName()))
+				{
+					source.append("(").append(typeName).append(") ");
+				}
+				
+				source.append("DatabaseBuilders.readObject(resultSet, ").append(column).append(", ").append(property.getRawTypeName()).append(".class);\n");
+			}
+		}
+	}
+	
+	private void writeBind(StringBuilder source, Property property, int parameter)
+	{
+		String value = "row." + property.getter + "()";
+		String index = "offset + " + parameter;
+		
+		switch(property.column)
+		{
+			case PRIMITIVE:
+			{
+				source.append("\t\tpreparedStatement.set").append(property.getGetterSuffix()).append("(").append(index).append(", ").append(value).append(");\n");
+				
+				break;
+			}
+			case WRAPPER:
+			case DIRECT:
+			case ENUM:
+			{
+				String local = property.getLocalName();
+				
+				source.append("\t\t\n");
+				source.append("\t\t").append(property.getTypeName()).append(" ").append(local).append(" = ").append(value).append(";\n");
+				source.append("\t\t\n");
+				source.append("\t\tif(").append(local).append(" == null)\n");
+				source.append("\t\t{\n");
+				source.append("\t\t\tpreparedStatement.setNull(").append(index).append(", Types.").append(property.getSQLType()).append(");\n");
+				source.append("\t\t}\n");
+				source.append("\t\telse\n");
+				source.append("\t\t{\n");
+				source.append("\t\t\tpreparedStatement.set").append(property.getGetterSuffix()).append("(").append(index).append(", ").append(local);
+				source.append(property.column == ColumnType.ENUM ? ".name()" : "").append(");\n");
+				source.append("\t\t}\n");
+				source.append("\t\t\n");
+				
+				break;
+			}
+			default:
+			{
+				source.append("\t\tValueBinders.bind(preparedStatement, ").append(index).append(", ").append(value).append(");\n");
+			}
+		}
+	}
+	
+	private ColumnType getColumnType(TypeElement type, Property property) throws MappingException
+	{
+		TypeMirror propertyType = property.type;
+		
+		if(propertyType.getKind().isPrimitive())
+		{
+			if(propertyType.getKind() == TypeKind.CHAR)
+			{
+				throw new MappingException(type, "@GenerateMapper does not support the char property " + property.name);
+			}
+			
+			property.primitive = propertyType.getKind();
+			
+			return ColumnType.PRIMITIVE;
+		}
+		
+		if(propertyType.getKind() == TypeKind.ARRAY && property.getTypeName().equals("byte[]"))
+		{
+			property.direct = "Bytes";
+			
+			return ColumnType.DIRECT;
+		}
+		
+		if(propertyType.getKind() != TypeKind.DECLARED)
+		{
+			return ColumnType.OBJECT;
+		}
+		
+		Element element = this.processingEnv.getTypeUtils().asElement(propertyType);
+		
+		if(element.getKind() == ElementKind.ENUM)
+		{
+			property.direct = "String";
+			
+			return ColumnType.ENUM;
+		}
+		
+		try
+		{
+			TypeKind primitive = this.processingEnv.getTypeUtils().unboxedType(propertyType).getKind();
+			
+			if(primitive != TypeKind.CHAR)
+			{
+				property.primitive = primitive;
+				
+				return ColumnType.WRAPPER;
+			}
+		}
+		catch(IllegalArgumentException e)
+		{
+			//not a wrapper
+		}
+		
+		switch(property.getRawTypeName())
+		{
+			case "java.lang.String":
+			{
+				property.direct = "String";
+				
+				return ColumnType.DIRECT;
+			}
+			case "java.math.BigDecimal":
+			{
+				property.direct = "BigDecimal";
+				
+				return ColumnType.DIRECT;
+			}
+			case "java.sql.Date":
+			{
+				property.direct = "Date";
+				
+				return ColumnType.DIRECT;
+			}
+			case "java.sql.Time":
+			{
+				property.direct = "Time";
+				
+				return ColumnType.DIRECT;
+			}
+			case "java.sql.Timestamp":
+			{
+				property.direct = "Timestamp";
+				
+				return ColumnType.DIRECT;
+			}
+			default:
+			{
+				return ColumnType.OBJECT;
+			}
+		}
+	}
+	
+	/**
+	 * How a property is read and bound by the generated code.
+	 */
+	private enum ColumnType
+	{
+		/** A primitive, with its typed getter and setter. */
+		PRIMITIVE,
+		
+		/** A primitive wrapper, with the getter and setter of its primitive, {@code wasNull()} and {@code setNull}. */
+		WRAPPER,
+		
+		/** A type with its own typed getter and setter. */
+		DIRECT,
+		
+		/** An enum, read and bound as the name of its constant. */
+		ENUM,
+		
+		/** Any other type, read with {@code DatabaseBuilders.readObject} and bound with {@code ValueBinders}. */
+		OBJECT
+	}
+	
+	/**
+	 * A record component or bean field mapped to one column.
+	 */
+	private final class Property
+	{
+		private final String name;
+		private final TypeMirror type;
+		private final String getter;
+		private final String setter;
+		private ColumnType column;
+		private TypeKind primitive;
+		private String direct;
+		
+		private Property(String name, TypeMirror type, String getter, String setter)
+		{
+			this.name = name;
+			this.type = type;
+			this.getter = getter;
+			this.setter = setter;
+		}
+		
+		private String getLocalName()
+		{
+			return RESERVED_NAMES.contains(this.name) ? this.name + "Value" : this.name;
+		}
+		
+		private String getTypeName()
+		{
+			return this.type.toString();
+		}
+		
+		private String getRawTypeName()
+		{
+			return MapperProcessor.this.processingEnv.getTypeUtils().erasure(this.type).toString();
+		}
+		
+		/**
+		 * Gets the suffix of the {@code get} and {@code set} methods of JDBC for the property.
+		 */
+		private String getGetterSuffix()
+		{
+			if(this.primitive == null)
+			{
+				return this.direct;
+			}
+			
+			String primitiveName = this.primitive.name().toLowerCase();
+			
+			return Character.toUpperCase(primitiveName.charAt(0)) + primitiveName.substring(1);
+		}
+		
+		/**
+		 * Gets the {@link java.sql.Types} constant bound for {@code null} values.
+		 */
+		private String getSQLType()
+		{
+			if(this.primitive != null)
+			{
+				switch(this.primitive)
+				{
+					case INT: return "INTEGER";
+					case LONG: return "BIGINT";
+					case DOUBLE: return "DOUBLE";
+					case FLOAT: return "REAL";
+					case SHORT: return "SMALLINT";
+					case BYTE: return "TINYINT";
+					default: return "BOOLEAN";
+				}
+			}
+			
+			switch(this.direct)
+			{
+				case "Bytes": return "VARBINARY";
+				case "BigDecimal": return "NUMERIC";
+				case "Date": return "DATE";
+				case "Time": return "TIME";
+				case "Timestamp": return "TIMESTAMP";
+				default: return "VARCHAR";
+			}
+		}
+	}
+	
+	/**
+	 * A type that cannot be mapped, reported as a compilation error on its element.
+	 */
+	private static final class MappingException extends Exception
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private final transient Element element;
+		
+		private MappingException(Element element, String message)
+		{
+			super(message);
+			
+			this.element = element;
+		}
+		
+		private Element getElement()
+		{
+			return this.element;
+		}
+	}
+}